@@ -76,6 +76,7 @@ dependencies {
     implementation(libs.bundles.flare)
     api(libs.gson)
     implementation(libs.jcTools)
+    implementation(libs.lz4)
 
     // Testing
     testImplementation(libs.bundles.junit)
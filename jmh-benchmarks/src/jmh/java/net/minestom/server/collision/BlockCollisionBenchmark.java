@@ -0,0 +1,54 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BlockCollisionBenchmark {
+    private final BoundingBox entityBox = new BoundingBox(0.6, 1.8, 0.6);
+    private final BoundingBox projectileBox = new BoundingBox(0.5, 0.5, 0.5);
+
+    // Flat ground with a wall at z = 10
+    private final Block.Getter getter = new Block.Getter() {
+        @Override
+        public @NotNull Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+            if (y < 40) return Block.STONE;
+            if (z == 10 && y < 45) return Block.STONE;
+            return Block.AIR;
+        }
+    };
+
+    private final Pos fallingPosition = new Pos(0.5, 40.2, 0.5);
+    private final Vec fallingVelocity = new Vec(0, -0.5, 0);
+
+    private final Pos walkingPosition = new Pos(0.5, 40, 9.6);
+    private final Vec walkingVelocity = new Vec(0.1, -0.08, 0.3);
+
+    private final Pos projectilePosition = new Pos(0.5, 42, 7.5);
+    private final Vec projectileVelocity = new Vec(0.8, -0.4, 3.5);
+
+    @Benchmark
+    public PhysicsResult falling() {
+        return CollisionUtils.handlePhysics(getter, entityBox, fallingPosition, fallingVelocity, null, false);
+    }
+
+    @Benchmark
+    public PhysicsResult walkingIntoWall() {
+        return CollisionUtils.handlePhysics(getter, entityBox, walkingPosition, walkingVelocity, null, false);
+    }
+
+    @Benchmark
+    public PhysicsResult projectileSweep() {
+        return CollisionUtils.handlePhysics(getter, projectileBox, projectilePosition, projectileVelocity, null, true);
+    }
+}
@@ -0,0 +1,51 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.pathfinding.generators.GroundNodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathGeneratorBenchmark {
+
+    @Param({"32", "64"})
+    public int distance;
+
+    private Block.Getter getter;
+    private Pos start;
+    private Vec target;
+    private final BoundingBox boundingBox = new BoundingBox(0.6, 1.95, 0.6);
+    private final GroundNodeGenerator generator = new GroundNodeGenerator();
+
+    @Setup
+    public void setup() {
+        final int wall = distance / 2;
+        // Flat ground with a wall to walk around, halfway to the target
+        this.getter = new Block.Getter() {
+            @Override
+            public @NotNull Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+                if (y < 40) return Block.STONE;
+                if (z == wall && y < 43 && Math.abs(x) < 8) return Block.STONE;
+                return Block.AIR;
+            }
+        };
+        this.start = new Pos(0.5, 40, 0.5);
+        this.target = new Vec(0.5, 40, distance + 0.5);
+    }
+
+    @Benchmark
+    public PPath generate() {
+        return PathGenerator.generate(getter, start, target, 1, distance * 2, distance,
+                boundingBox, true, generator, null);
+    }
+}
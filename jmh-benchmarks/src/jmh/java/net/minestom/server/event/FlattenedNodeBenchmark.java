@@ -0,0 +1,60 @@
+package net.minestom.server.event;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the nested and flattened dispatch of a node tree with filters at every level.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FlattenedNodeBenchmark {
+
+    @Param({"1", "3", "5"})
+    public int depth;
+
+    @Param({"2", "4"})
+    public int children;
+
+    private EventNode<Event> node;
+
+    record TestEvent(int value) implements Event {
+    }
+
+    @Setup
+    public void setup() {
+        node = EventNode.all("node");
+        addChildren(node, depth);
+    }
+
+    private void addChildren(EventNode<Event> parent, int remaining) {
+        if (remaining == 0) return;
+        for (int i = 0; i < children; i++) {
+            final int index = i;
+            // Only the first child of each level accepts the event
+            var child = EventNode.event("child-" + remaining + "-" + i, EventFilter.ALL,
+                    event -> !(event instanceof TestEvent testEvent) || testEvent.value() == index);
+            child.addListener(TestEvent.class, e -> {
+                // Empty
+            });
+            parent.addChild(child);
+            addChildren(child, remaining - 1);
+        }
+    }
+
+    @Benchmark
+    @Fork(3)
+    public void nested() {
+        node.call(new TestEvent(0));
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.event.flattened-dispatch=true")
+    public void flattened() {
+        node.call(new TestEvent(0));
+    }
+}
@@ -0,0 +1,71 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EntityTrackerBenchmark {
+
+    @Param({"chunk", "grid"})
+    public String tracker;
+
+    @Param({"10000"})
+    public int entityCount;
+
+    // Entities are spread over a square of this size, centered on 0
+    @Param({"128", "512"})
+    public int area;
+
+    private EntityTracker entityTracker;
+    private Entity[] entities;
+    private Point[] positions;
+    private int moveIndex;
+
+    @Setup
+    public void setup() {
+        this.entityTracker = tracker.equals("grid") ? EntityTracker.newGridTracker() : EntityTracker.newTracker();
+        this.entities = new Entity[entityCount];
+        this.positions = new Point[entityCount];
+        Random random = new Random(0);
+        for (int i = 0; i < entityCount; i++) {
+            final Entity entity = new Entity(EntityType.ZOMBIE);
+            final Point position = new Vec(
+                    random.nextDouble(area) - area / 2d,
+                    random.nextDouble(64),
+                    random.nextDouble(area) - area / 2d);
+            entityTracker.register(entity, position, EntityTracker.Target.ENTITIES, null);
+            entities[i] = entity;
+            positions[i] = position;
+        }
+    }
+
+    @Benchmark
+    public void nearbySmall(Blackhole blackhole) {
+        entityTracker.nearbyEntities(Vec.ZERO, 4, EntityTracker.Target.ENTITIES, blackhole::consume);
+    }
+
+    @Benchmark
+    public void nearbyLarge(Blackhole blackhole) {
+        entityTracker.nearbyEntities(Vec.ZERO, 32, EntityTracker.Target.ENTITIES, blackhole::consume);
+    }
+
+    @Benchmark
+    public void move() {
+        final int index = moveIndex++ % entityCount;
+        final Point position = positions[index].add(0.1, 0, 0.1);
+        positions[index] = position;
+        entityTracker.move(entities[index], position, EntityTracker.Target.ENTITIES, null);
+    }
+}
@@ -19,6 +19,9 @@ public final class ServerFlag {
     public static final int ENTITY_VIEW_DISTANCE = intProperty("minestom.entity-view-distance", 5);
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
+    public static final boolean DISPATCHER_BALANCED = booleanProperty("minestom.dispatcher-balanced", false);
+    public static final boolean DISPATCHER_WORK_STEALING = booleanProperty("minestom.dispatcher-work-stealing", false);
+    public static final int BLOCK_CHANGE_RESEND_THRESHOLD = intProperty("minestom.block-change-resend-threshold", 4096);
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000);
 
@@ -41,11 +44,14 @@ public final class ServerFlag {
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
     public static final float MAX_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.max-per-tick", 64.0f);
     public static final float CHUNKS_PER_TICK_MULTIPLIER = floatProperty("minestom.chunk-queue.multiplier", 1f);
+    public static final int CHUNK_PREFETCH_TICKS = intProperty("minestom.chunk-queue.prefetch-ticks", 40);
 
     // Packet sending optimizations
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final boolean SIGNALED_FLUSH = booleanProperty("minestom.signaled-flush", false);
+    public static final boolean PACKET_DEFLATER_REUSE = booleanProperty("minestom.packet-deflater-reuse", false);
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
@@ -64,11 +70,16 @@ public final class ServerFlag {
 
     // Entities
     public static final boolean ENFORCE_INTERACTION_LIMIT = booleanProperty("minestom.enforce-entity-interaction-range", true);
+    public static final boolean ENTITY_RESTING = booleanProperty("minestom.entity-resting", false);
+    public static final boolean ENTITY_BATCHED_PHYSICS = booleanProperty("minestom.entity-batched-physics", false);
+    public static final int PATHFINDING_THREADS = intProperty("minestom.pathfinding.threads", 0);
+    public static final long PATHFINDING_TICK_BUDGET = longProperty("minestom.pathfinding.tick-budget", 10); // ms
 
     // Experimental/Unstable
     public static final boolean REGISTRY_LATE_REGISTER = booleanProperty("minestom.registry.late-register");
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
+    public static final boolean EVENT_NODE_FLATTENED_DISPATCH = booleanProperty("minestom.event.flattened-dispatch");
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
@@ -139,7 +139,10 @@ final class ServerProcessImpl implements ServerProcess {
 
         this.server = new Server(packetParser);
 
-        this.dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
+        final ThreadProvider<Chunk> threadProvider = ServerFlag.DISPATCHER_BALANCED ? ThreadProvider.balanced() : ThreadProvider.counter();
+        this.dispatcher = ServerFlag.DISPATCHER_WORK_STEALING ?
+                ThreadDispatcher.workStealing(threadProvider, ServerFlag.DISPATCHER_THREADS) :
+                ThreadDispatcher.of(threadProvider, ServerFlag.DISPATCHER_THREADS);
         this.ticker = new TickerImpl();
     }
 
@@ -382,6 +385,7 @@ final class ServerProcessImpl implements ServerProcess {
 
             // Flush all waiting packets
             PacketViewableUtils.flush();
+            if (ServerFlag.SIGNALED_FLUSH) connection().flushConnections();
 
             // Monitoring
             {
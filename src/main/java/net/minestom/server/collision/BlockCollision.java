@@ -1,5 +1,6 @@
 package net.minestom.server.collision;
 
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
@@ -7,11 +8,13 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
-import net.minestom.server.utils.block.BlockIterator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 final class BlockCollision {
+    // Only the returned PhysicsResult is allocated, intermediate steps use the state of the thread
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     /**
      * Moves an entity with physics applied (ie checking against blocks)
      * <p>
@@ -60,7 +63,10 @@ final class BlockCollision {
     private static PhysicsResult cachedPhysics(Vec velocity, Pos entityPosition,
                                                Block.Getter getter, PhysicsResult lastPhysicsResult) {
         if (lastPhysicsResult != null && lastPhysicsResult.collisionShapes()[1] instanceof ShapeImpl shape) {
-            var currentBlock = getter.getBlock(lastPhysicsResult.collisionPoints()[1].sub(0, Vec.EPSILON, 0), Block.Getter.Condition.TYPE);
+            final Point collisionPoint = lastPhysicsResult.collisionPoints()[1];
+            var currentBlock = getter.getBlock(collisionPoint.blockX(),
+                    CoordConversion.globalToBlock(collisionPoint.y() - Vec.EPSILON), collisionPoint.blockZ(),
+                    Block.Getter.Condition.TYPE);
             var lastBlockBoxes = shape.collisionBoundingBoxes();
             var currentBlockBoxes = ((ShapeImpl) currentBlock.registry().collisionShape()).collisionBoundingBoxes();
 
@@ -81,6 +87,7 @@ final class BlockCollision {
     private static PhysicsResult stepPhysics(@NotNull BoundingBox boundingBox,
                                              @NotNull Vec velocity, @NotNull Pos entityPosition,
                                              @NotNull Block.Getter getter, boolean singleCollision) {
+        final Scratch scratch = SCRATCH.get();
         // Allocate once and update values
         SweepResult finalResult = new SweepResult(1 - Vec.EPSILON, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
 
@@ -93,32 +100,33 @@ final class BlockCollision {
         boolean hasCollided = false;
 
         // Query faces to get the points needed for collision
-        final Vec[] allFaces = calculateFaces(velocity, boundingBox);
-        PhysicsResult result = computePhysics(boundingBox, velocity, entityPosition, getter, allFaces, finalResult);
+        final int faceCount = calculateFaces(velocity.x(), velocity.y(), velocity.z(), boundingBox, scratch);
+        computePhysics(boundingBox, velocity.x(), velocity.y(), velocity.z(),
+                entityPosition.x(), entityPosition.y(), entityPosition.z(), getter, scratch, faceCount, finalResult);
         // Loop until no collisions are found.
         // When collisions are found, the collision axis is set to 0
         // Looping until there are no collisions will allow the entity to move in axis other than the collision axis after a collision.
-        while (result.collisionX() || result.collisionY() || result.collisionZ()) {
+        while (scratch.collisionX || scratch.collisionY || scratch.collisionZ) {
             // Reset final result
             finalResult.normalX = 0;
             finalResult.normalY = 0;
             finalResult.normalZ = 0;
 
-            if (result.collisionX()) {
+            if (scratch.collisionX) {
                 foundCollisionX = true;
                 collisionShapes[0] = finalResult.collidedShape;
                 collisionShapePositions[0] = new Vec(finalResult.collidedShapeX, finalResult.collidedShapeY, finalResult.collidedShapeZ);
                 collidedPoints[0] = new Vec(finalResult.collidedPositionX, finalResult.collidedPositionY, finalResult.collidedPositionZ);
                 hasCollided = true;
                 if (singleCollision) break;
-            } else if (result.collisionZ()) {
+            } else if (scratch.collisionZ) {
                 foundCollisionZ = true;
                 collisionShapes[2] = finalResult.collidedShape;
                 collisionShapePositions[2] = new Vec(finalResult.collidedShapeX, finalResult.collidedShapeY, finalResult.collidedShapeZ);
                 collidedPoints[2] = new Vec(finalResult.collidedPositionX, finalResult.collidedPositionY, finalResult.collidedPositionZ);
                 hasCollided = true;
                 if (singleCollision) break;
-            } else if (result.collisionY()) {
+            } else if (scratch.collisionY) {
                 foundCollisionY = true;
                 collisionShapes[1] = finalResult.collidedShape;
                 collisionShapePositions[1] = new Vec(finalResult.collidedShapeX, finalResult.collidedShapeY, finalResult.collidedShapeZ);
@@ -130,80 +138,92 @@ final class BlockCollision {
             // If all axis have had collisions, break
             if (foundCollisionX && foundCollisionY && foundCollisionZ) break;
             // If the entity isn't moving, break
-            if (result.newVelocity().isZero()) break;
+            if (scratch.remainingX == 0 && scratch.remainingY == 0 && scratch.remainingZ == 0) break;
 
             finalResult.res = 1 - Vec.EPSILON;
-            result = computePhysics(boundingBox, result.newVelocity(), result.newPosition(), getter, allFaces, finalResult);
+            computePhysics(boundingBox, scratch.remainingX, scratch.remainingY, scratch.remainingZ,
+                    scratch.positionX, scratch.positionY, scratch.positionZ, getter, scratch, faceCount, finalResult);
         }
 
-        finalResult.res = result.res().res;
-
         final double newDeltaX = foundCollisionX ? 0 : velocity.x();
         final double newDeltaY = foundCollisionY ? 0 : velocity.y();
         final double newDeltaZ = foundCollisionZ ? 0 : velocity.z();
 
-        return new PhysicsResult(result.newPosition(), new Vec(newDeltaX, newDeltaY, newDeltaZ),
+        final Pos newPosition = new Pos(scratch.positionX, scratch.positionY, scratch.positionZ,
+                entityPosition.yaw(), entityPosition.pitch());
+        return new PhysicsResult(newPosition, new Vec(newDeltaX, newDeltaY, newDeltaZ),
                 newDeltaY == 0 && velocity.y() < 0,
                 foundCollisionX, foundCollisionY, foundCollisionZ, velocity, collidedPoints, collisionShapes, collisionShapePositions, hasCollided, finalResult);
     }
 
-    private static PhysicsResult computePhysics(@NotNull BoundingBox boundingBox,
-                                                @NotNull Vec velocity, Pos entityPosition,
-                                                @NotNull Block.Getter getter,
-                                                @NotNull Vec[] allFaces,
-                                                @NotNull SweepResult finalResult) {
+    /**
+     * Moves by {@code velocity} until the first collision, the new position, remaining velocity
+     * and collision axis are stored in {@code scratch}.
+     */
+    private static void computePhysics(@NotNull BoundingBox boundingBox,
+                                       double velocityX, double velocityY, double velocityZ,
+                                       double positionX, double positionY, double positionZ,
+                                       @NotNull Block.Getter getter, @NotNull Scratch scratch, int faceCount,
+                                       @NotNull SweepResult finalResult) {
         // If the movement is small we don't need to run the expensive ray casting.
         // Positions of move less than one can have hardcoded blocks to check for every direction
         // Diagonals are a special case which will work with fast physics
-        if (velocity.length() <= 1 || isDiagonal(velocity)) {
-            fastPhysics(boundingBox, velocity, entityPosition, getter, allFaces, finalResult);
+        final double length = Math.sqrt(velocityX * velocityX + velocityY * velocityY + velocityZ * velocityZ);
+        if (length <= 1 || isDiagonal(velocityX, velocityZ)) {
+            fastPhysics(boundingBox, velocityX, velocityY, velocityZ, positionX, positionY, positionZ,
+                    getter, scratch, faceCount, finalResult);
         } else {
-            slowPhysics(boundingBox, velocity, entityPosition, getter, allFaces, finalResult);
+            slowPhysics(boundingBox, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, length,
+                    getter, scratch, faceCount, finalResult);
         }
 
         final boolean collisionX = finalResult.normalX != 0;
         final boolean collisionY = finalResult.normalY != 0;
         final boolean collisionZ = finalResult.normalZ != 0;
 
-        double deltaX = finalResult.res * velocity.x();
-        double deltaY = finalResult.res * velocity.y();
-        double deltaZ = finalResult.res * velocity.z();
+        double deltaX = finalResult.res * velocityX;
+        double deltaY = finalResult.res * velocityY;
+        double deltaZ = finalResult.res * velocityZ;
 
         if (Math.abs(deltaX) < Vec.EPSILON) deltaX = 0;
         if (Math.abs(deltaY) < Vec.EPSILON) deltaY = 0;
         if (Math.abs(deltaZ) < Vec.EPSILON) deltaZ = 0;
 
-        final Pos finalPos = entityPosition.add(deltaX, deltaY, deltaZ);
+        scratch.positionX = positionX + deltaX;
+        scratch.positionY = positionY + deltaY;
+        scratch.positionZ = positionZ + deltaZ;
 
-        final double remainingX = collisionX ? 0 : velocity.x() - deltaX;
-        final double remainingY = collisionY ? 0 : velocity.y() - deltaY;
-        final double remainingZ = collisionZ ? 0 : velocity.z() - deltaZ;
+        scratch.remainingX = collisionX ? 0 : velocityX - deltaX;
+        scratch.remainingY = collisionY ? 0 : velocityY - deltaY;
+        scratch.remainingZ = collisionZ ? 0 : velocityZ - deltaZ;
 
-        return new PhysicsResult(finalPos, new Vec(remainingX, remainingY, remainingZ),
-                collisionY, collisionX, collisionY, collisionZ,
-                Vec.ZERO, null, null, null, false, finalResult);
+        scratch.collisionX = collisionX;
+        scratch.collisionY = collisionY;
+        scratch.collisionZ = collisionZ;
     }
 
-    private static boolean isDiagonal(Vec velocity) {
-        return Math.abs(velocity.x()) == 1 && Math.abs(velocity.z()) == 1;
+    private static boolean isDiagonal(double velocityX, double velocityZ) {
+        return Math.abs(velocityX) == 1 && Math.abs(velocityZ) == 1;
     }
 
     private static void slowPhysics(@NotNull BoundingBox boundingBox,
-                                    @NotNull Vec velocity, Pos entityPosition,
-                                    @NotNull Block.Getter getter,
-                                    @NotNull Vec[] allFaces,
+                                    double velocityX, double velocityY, double velocityZ,
+                                    double positionX, double positionY, double positionZ, double length,
+                                    @NotNull Block.Getter getter, @NotNull Scratch scratch, int faceCount,
                                     @NotNull SweepResult finalResult) {
-        BlockIterator iterator = new BlockIterator();
+        final double[] faces = scratch.faces;
         // When large moves are done we need to ray-cast to find all blocks that could intersect with the movement
-        for (Vec point : allFaces) {
-            iterator.reset(Vec.fromPoint(point.add(entityPosition)), velocity, 0, velocity.length(), false);
+        for (int i = 0; i < faceCount * 3; i += 3) {
+            scratch.resetRay(faces[i] + positionX, faces[i + 1] + positionY, faces[i + 2] + positionZ,
+                    velocityX, velocityY, velocityZ, length);
             int timer = -1;
 
-            while (iterator.hasNext() && timer != 0) {
-                Point p = iterator.next();
+            while (!scratch.rayEnded && timer != 0) {
+                scratch.nextRayBlock();
 
                 // If we hit a block, there are at most 3 other blocks that could be closer
-                if (checkBoundingBox(p.blockX(), p.blockY(), p.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult))
+                if (checkBoundingBox(scratch.rayBlockX, scratch.rayBlockY, scratch.rayBlockZ,
+                        velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult))
                     timer = 3;
 
                 timer--;
@@ -212,56 +232,68 @@ final class BlockCollision {
     }
 
     private static void fastPhysics(@NotNull BoundingBox boundingBox,
-                                    @NotNull Vec velocity, Pos entityPosition,
-                                    @NotNull Block.Getter getter,
-                                    @NotNull Vec[] allFaces,
+                                    double velocityX, double velocityY, double velocityZ,
+                                    double positionX, double positionY, double positionZ,
+                                    @NotNull Block.Getter getter, @NotNull Scratch scratch, int faceCount,
                                     @NotNull SweepResult finalResult) {
-        for (Vec point : allFaces) {
-            final Vec pointBefore = point.add(entityPosition);
-            final Vec pointAfter = point.add(entityPosition).add(velocity);
+        final double[] faces = scratch.faces;
+        for (int i = 0; i < faceCount * 3; i += 3) {
+            final double beforeX = faces[i] + positionX;
+            final double beforeY = faces[i + 1] + positionY;
+            final double beforeZ = faces[i + 2] + positionZ;
+            final double afterX = beforeX + velocityX;
+            final double afterY = beforeY + velocityY;
+            final double afterZ = beforeZ + velocityZ;
             // Entity can pass through up to 4 blocks. Starting block, Two intermediate blocks, and a final block.
             // This means we must check every combination of block movements when an entity moves over an axis.
             // 000, 001, 010, 011, etc.
             // There are 8 of these combinations
             // Checks can be limited by checking if we moved across an axis line
 
-            boolean needsX = pointBefore.x() != pointAfter.x();
-            boolean needsY = pointBefore.y() != pointAfter.y();
-            boolean needsZ = pointBefore.z() != pointAfter.z();
+            final boolean needsX = beforeX != afterX;
+            final boolean needsY = beforeY != afterY;
+            final boolean needsZ = beforeZ != afterZ;
+
+            final int beforeBlockX = CoordConversion.globalToBlock(beforeX);
+            final int beforeBlockY = CoordConversion.globalToBlock(beforeY);
+            final int beforeBlockZ = CoordConversion.globalToBlock(beforeZ);
+            final int afterBlockX = CoordConversion.globalToBlock(afterX);
+            final int afterBlockY = CoordConversion.globalToBlock(afterY);
+            final int afterBlockZ = CoordConversion.globalToBlock(afterZ);
 
-            checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+            checkBoundingBox(beforeBlockX, beforeBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
 
             if (needsX && needsY && needsZ) {
-                checkBoundingBox(pointAfter.blockX(), pointAfter.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, afterBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, afterBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             } else if (needsX && needsY) {
-                checkBoundingBox(pointAfter.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, afterBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             } else if (needsX && needsZ) {
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             } else if (needsY && needsZ) {
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
 
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             } else if (needsX) {
-                checkBoundingBox(pointAfter.blockX(), pointBefore.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(afterBlockX, beforeBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             } else if (needsY) {
-                checkBoundingBox(pointBefore.blockX(), pointAfter.blockY(), pointBefore.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, afterBlockY, beforeBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             } else if (needsZ) {
-                checkBoundingBox(pointBefore.blockX(), pointBefore.blockY(), pointAfter.blockZ(), velocity, entityPosition, boundingBox, getter, finalResult);
+                checkBoundingBox(beforeBlockX, beforeBlockY, afterBlockZ, velocityX, velocityY, velocityZ, positionX, positionY, positionZ, boundingBox, getter, finalResult);
             }
         }
     }
@@ -269,19 +301,24 @@ final class BlockCollision {
     /**
      * Check if a moving entity will collide with a block. Updates finalResult
      *
-     * @param blockX         block x position
-     * @param blockY         block y position
-     * @param blockZ         block z position
-     * @param entityVelocity entity movement vector
-     * @param entityPosition entity position
-     * @param boundingBox    entity bounding box
-     * @param getter         block getter
-     * @param finalResult    place to store final result of collision
+     * @param blockX      block x position
+     * @param blockY      block y position
+     * @param blockZ      block z position
+     * @param velocityX   entity movement x
+     * @param velocityY   entity movement y
+     * @param velocityZ   entity movement z
+     * @param positionX   entity position x
+     * @param positionY   entity position y
+     * @param positionZ   entity position z
+     * @param boundingBox entity bounding box
+     * @param getter      block getter
+     * @param finalResult place to store final result of collision
      * @return true if entity finds collision, other false
      */
     static boolean checkBoundingBox(int blockX, int blockY, int blockZ,
-                                    Vec entityVelocity, Pos entityPosition, BoundingBox boundingBox,
-                                    Block.Getter getter, SweepResult finalResult) {
+                                    double velocityX, double velocityY, double velocityZ,
+                                    double positionX, double positionY, double positionZ,
+                                    BoundingBox boundingBox, Block.Getter getter, SweepResult finalResult) {
         // Don't step if chunk isn't loaded yet
         final Block currentBlock = getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
         final Shape currentShape = currentBlock.registry().collisionShape();
@@ -290,54 +327,62 @@ final class BlockCollision {
         final boolean currentShort = currentShape.relativeEnd().y() < 0.5;
 
         // only consider the block below if our current shape is sufficiently short
-        if (currentShort && shouldCheckLower(entityVelocity, entityPosition, blockX, blockY, blockZ)) {
+        if (currentShort && shouldCheckLower(velocityX, velocityY, velocityZ, positionX, positionY, positionZ, blockX, blockY, blockZ)) {
             // we need to check below for a tall block (fence, wall, ...)
-            final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-            final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
+            final Block belowBlock = getter.getBlock(blockX, blockY - 1, blockZ, Block.Getter.Condition.TYPE);
             final Shape belowShape = belowBlock.registry().collisionShape();
 
-            final Vec currentPos = new Vec(blockX, blockY, blockZ);
             // don't fall out of if statement, we could end up redundantly grabbing a block, and we only need to
             // collision check against the current shape since the below shape isn't tall
             if (belowShape.relativeEnd().y() > 1) {
                 // we should always check both shapes, so no short-circuit here, to handle properties where the bounding box
                 // hits the current solid but misses the tall solid
-                return belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult) |
-                        (currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity, currentPos, boundingBox, finalResult));
+                return sweep(belowShape, positionX, positionY, positionZ, velocityX, velocityY, velocityZ, blockX, blockY - 1, blockZ, boundingBox, finalResult) |
+                        (currentCollidable && sweep(currentShape, positionX, positionY, positionZ, velocityX, velocityY, velocityZ, blockX, blockY, blockZ, boundingBox, finalResult));
             } else {
-                return currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity, currentPos, boundingBox, finalResult);
+                return currentCollidable && sweep(currentShape, positionX, positionY, positionZ, velocityX, velocityY, velocityZ, blockX, blockY, blockZ, boundingBox, finalResult);
             }
         }
 
-        if (currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity,
-                new Vec(blockX, blockY, blockZ), boundingBox, finalResult)) {
+        if (currentCollidable && sweep(currentShape, positionX, positionY, positionZ, velocityX, velocityY, velocityZ,
+                blockX, blockY, blockZ, boundingBox, finalResult)) {
             // if the current collision is sufficiently short, we might need to collide against the block below too
             if (currentShort) {
-                final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-                final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
+                final Block belowBlock = getter.getBlock(blockX, blockY - 1, blockZ, Block.Getter.Condition.TYPE);
                 final Shape belowShape = belowBlock.registry().collisionShape();
                 // only do sweep if the below block is big enough to possibly hit
                 if (belowShape.relativeEnd().y() > 1)
-                    belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult);
+                    sweep(belowShape, positionX, positionY, positionZ, velocityX, velocityY, velocityZ, blockX, blockY - 1, blockZ, boundingBox, finalResult);
             }
             return true;
         }
         return false;
     }
 
-    private static boolean shouldCheckLower(Vec entityVelocity, Pos entityPosition, int blockX, int blockY, int blockZ) {
-        final double yVelocity = entityVelocity.y();
+    private static boolean sweep(Shape shape, double positionX, double positionY, double positionZ,
+                                 double velocityX, double velocityY, double velocityZ,
+                                 int shapeX, int shapeY, int shapeZ,
+                                 BoundingBox boundingBox, SweepResult finalResult) {
+        if (shape instanceof ShapeImpl shapeImpl) {
+            return shapeImpl.intersectBoxSwept(positionX, positionY, positionZ, velocityX, velocityY, velocityZ,
+                    shapeX, shapeY, shapeZ, boundingBox, finalResult);
+        }
+        return shape.intersectBoxSwept(new Vec(positionX, positionY, positionZ), new Vec(velocityX, velocityY, velocityZ),
+                new Vec(shapeX, shapeY, shapeZ), boundingBox, finalResult);
+    }
+
+    private static boolean shouldCheckLower(double xVelocity, double yVelocity, double zVelocity,
+                                            double positionX, double positionY, double positionZ,
+                                            int blockX, int blockY, int blockZ) {
         // if moving horizontally, just check if the floor of the entity's position is the same as the blockY
-        if (yVelocity == 0) return Math.floor(entityPosition.y()) == blockY;
-        final double xVelocity = entityVelocity.x();
-        final double zVelocity = entityVelocity.z();
+        if (yVelocity == 0) return Math.floor(positionY) == blockY;
         // if moving straight up, don't bother checking for tall solids beneath anything
         // if moving straight down, only check for a tall solid underneath the last block
         if (xVelocity == 0 && zVelocity == 0)
-            return yVelocity < 0 && blockY == Math.floor(entityPosition.y() + yVelocity);
+            return yVelocity < 0 && blockY == Math.floor(positionY + yVelocity);
         // default to true: if no x velocity, only consider YZ line, and vice-versa
-        final boolean underYX = xVelocity != 0 && computeHeight(yVelocity, xVelocity, entityPosition.y(), entityPosition.x(), blockX) >= blockY;
-        final boolean underYZ = zVelocity != 0 && computeHeight(yVelocity, zVelocity, entityPosition.y(), entityPosition.z(), blockZ) >= blockY;
+        final boolean underYX = xVelocity != 0 && computeHeight(yVelocity, xVelocity, positionY, positionX, blockX) >= blockY;
+        final boolean underYZ = zVelocity != 0 && computeHeight(yVelocity, zVelocity, positionY, positionZ, blockZ) >= blockY;
         // true if the block is at or below the same height as a line drawn from the entity's position to its final
         // destination
         return underYX && underYZ;
@@ -359,15 +404,21 @@ final class BlockCollision {
         return m * (blockPos - pos + (m > 0 ? 1 : 0)) + entityY;
     }
 
-    private static Vec[] calculateFaces(Vec queryVec, BoundingBox boundingBox) {
-        final int queryX = (int) Math.signum(queryVec.x());
-        final int queryY = (int) Math.signum(queryVec.y());
-        final int queryZ = (int) Math.signum(queryVec.z());
+    /**
+     * Computes the points of the bounding box faces facing the movement, stored in {@link Scratch#faces}.
+     *
+     * @return the number of points
+     */
+    private static int calculateFaces(double velocityX, double velocityY, double velocityZ,
+                                      BoundingBox boundingBox, Scratch scratch) {
+        final int queryX = (int) Math.signum(velocityX);
+        final int queryY = (int) Math.signum(velocityY);
+        final int queryZ = (int) Math.signum(velocityZ);
 
         final int ceilWidth = (int) Math.ceil(boundingBox.width());
         final int ceilHeight = (int) Math.ceil(boundingBox.height());
         final int ceilDepth = (int) Math.ceil(boundingBox.depth());
-        Vec[] facePoints;
+        final double[] facePoints;
         // Compute array length
         {
             final int ceilX = ceilWidth + 1;
@@ -389,7 +440,8 @@ final class BlockCollision {
             } else if (queryX != 0 && queryZ != 0) { // Two edge reduction
                 pointCount -= ceilY;
             }
-            facePoints = new Vec[pointCount];
+            if (scratch.faces.length < pointCount * 3) scratch.faces = new double[pointCount * 3];
+            facePoints = scratch.faces;
         }
         int insertIndex = 0;
         // X -> Y x Z
@@ -415,7 +467,9 @@ final class BlockCollision {
                     cellJ += boundingBox.minY();
                     cellK += boundingBox.minX();
 
-                    facePoints[insertIndex++] = new Vec(cellK, cellJ, cellI);
+                    facePoints[insertIndex++] = cellK;
+                    facePoints[insertIndex++] = cellJ;
+                    facePoints[insertIndex++] = cellI;
                 }
             }
         }
@@ -439,7 +493,9 @@ final class BlockCollision {
                     cellJ += boundingBox.minX();
                     cellK += boundingBox.minY();
 
-                    facePoints[insertIndex++] = new Vec(cellJ, cellK, cellI);
+                    facePoints[insertIndex++] = cellJ;
+                    facePoints[insertIndex++] = cellK;
+                    facePoints[insertIndex++] = cellI;
                 }
             }
         }
@@ -458,11 +514,141 @@ final class BlockCollision {
                     cellJ += boundingBox.minX();
                     cellK += boundingBox.minZ();
 
-                    facePoints[insertIndex++] = new Vec(cellJ, cellI, cellK);
+                    facePoints[insertIndex++] = cellJ;
+                    facePoints[insertIndex++] = cellI;
+                    facePoints[insertIndex++] = cellK;
                 }
             }
         }
 
-        return facePoints;
+        return insertIndex / 3;
+    }
+
+    /**
+     * Mutable state of a physics step, reused by all the steps of a thread.
+     */
+    private static final class Scratch {
+        // Face points, as x, y, z triples
+        double[] faces = new double[3 * 16];
+
+        // Result of the last computePhysics call
+        double positionX, positionY, positionZ;
+        double remainingX, remainingY, remainingZ;
+        boolean collisionX, collisionY, collisionZ;
+
+        // Ray traversal, visits the same blocks as a non-smooth BlockIterator
+        int rayBlockX, rayBlockY, rayBlockZ;
+        boolean rayEnded;
+        private int mapX, mapY, mapZ;
+        private int endX, endY, endZ;
+        private int signumX, signumY, signumZ;
+        private double sideDistX, sideDistY, sideDistZ;
+        private double deltaDistX, deltaDistY, deltaDistZ;
+        private final int[] extraBlocks = new int[6 * 3];
+        private int extraCount, extraIndex;
+
+        void resetRay(double startX, double startY, double startZ,
+                      double directionX, double directionY, double directionZ, double maxDistance) {
+            this.extraCount = 0;
+            this.extraIndex = 0;
+            this.rayEnded = false;
+
+            final double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+            final double rayX = directionX / length;
+            final double rayY = directionY / length;
+            final double rayZ = directionZ / length;
+
+            this.endX = CoordConversion.globalToBlock(startX + rayX * maxDistance);
+            this.endY = CoordConversion.globalToBlock(startY + rayY * maxDistance);
+            this.endZ = CoordConversion.globalToBlock(startZ + rayZ * maxDistance);
+
+            this.mapX = CoordConversion.globalToBlock(startX);
+            this.mapY = CoordConversion.globalToBlock(startY);
+            this.mapZ = CoordConversion.globalToBlock(startZ);
+
+            this.signumX = (int) Math.signum(directionX);
+            this.signumY = (int) Math.signum(directionY);
+            this.signumZ = (int) Math.signum(directionZ);
+
+            this.deltaDistX = (rayX == 0) ? 1e30 : Math.abs(1 / rayX);
+            this.deltaDistY = (rayY == 0) ? 1e30 : Math.abs(1 / rayY);
+            this.deltaDistZ = (rayZ == 0) ? 1e30 : Math.abs(1 / rayZ);
+
+            if (rayX < 0) sideDistX = (startX - mapX) * deltaDistX;
+            else if (rayX > 0) sideDistX = (mapX + signumX - startX) * deltaDistX;
+            else sideDistX = Double.MAX_VALUE;
+
+            if (rayY < 0) sideDistY = (startY - mapY) * deltaDistY;
+            else if (rayY > 0) sideDistY = (mapY + signumY - startY) * deltaDistY;
+            else sideDistY = Double.MAX_VALUE;
+
+            if (rayZ < 0) sideDistZ = (startZ - mapZ) * deltaDistZ;
+            else if (rayZ > 0) sideDistZ = (mapZ + signumZ - startZ) * deltaDistZ;
+            else sideDistZ = Double.MAX_VALUE;
+        }
+
+        void nextRayBlock() {
+            if (extraIndex < extraCount) {
+                final int index = 3 * extraIndex++;
+                setRayBlock(extraBlocks[index], extraBlocks[index + 1], extraBlocks[index + 2]);
+                return;
+            }
+            this.extraCount = 0;
+            this.extraIndex = 0;
+
+            final int currentX = mapX, currentY = mapY, currentZ = mapZ;
+            setRayBlock(currentX, currentY, currentZ);
+
+            final double closest = Math.min(sideDistX, Math.min(sideDistY, sideDistZ));
+            final boolean needsX = sideDistX - closest < 1e-10 && signumX != 0;
+            final boolean needsY = sideDistY - closest < 1e-10 && signumY != 0;
+            final boolean needsZ = sideDistZ - closest < 1e-10 && signumZ != 0;
+
+            if (needsZ) {
+                sideDistZ += deltaDistZ;
+                mapZ += signumZ;
+            }
+            if (needsX) {
+                sideDistX += deltaDistX;
+                mapX += signumX;
+            }
+            if (needsY) {
+                sideDistY += deltaDistY;
+                mapY += signumY;
+            }
+
+            if (needsX && needsY && needsZ) {
+                addExtraBlock(currentX + signumX, currentY + signumY, currentZ);
+                addExtraBlock(currentX, currentY + signumY, currentZ + signumZ);
+                addExtraBlock(currentX + signumX, currentY, currentZ + signumZ);
+
+                addExtraBlock(currentX + signumX, currentY, currentZ);
+                addExtraBlock(currentX, currentY + signumY, currentZ);
+                addExtraBlock(currentX, currentY, currentZ + signumZ);
+            } else if (needsX && needsY) {
+                addExtraBlock(currentX + signumX, currentY, currentZ);
+                addExtraBlock(currentX, currentY + signumY, currentZ);
+            } else if (needsX && needsZ) {
+                addExtraBlock(currentX + signumX, currentY, currentZ);
+                addExtraBlock(currentX, currentY, currentZ + signumZ);
+            } else if (needsY && needsZ) {
+                addExtraBlock(currentX, currentY + signumY, currentZ);
+                addExtraBlock(currentX, currentY, currentZ + signumZ);
+            }
+        }
+
+        private void setRayBlock(int x, int y, int z) {
+            this.rayBlockX = x;
+            this.rayBlockY = y;
+            this.rayBlockZ = z;
+            if (x == endX && y == endY && z == endZ) this.rayEnded = true;
+        }
+
+        private void addExtraBlock(int x, int y, int z) {
+            final int index = 3 * extraCount++;
+            extraBlocks[index] = x;
+            extraBlocks[index + 1] = y;
+            extraBlocks[index + 2] = z;
+        }
     }
 }
@@ -0,0 +1,342 @@
+package net.minestom.server.collision;
+
+import it.unimi.dsi.fastutil.ints.Int2BooleanMap;
+import it.unimi.dsi.fastutil.ints.Int2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.Tickable;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.WorldBorder;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Simulates the movement of all the entities of a partition at once, before they are ticked.
+ * <p>
+ * Positions, velocities and bounding boxes are copied into primitive arrays, and the blocks around the entities are
+ * looked up once per partition in a collision cache shared by all of them. Entities moving through blocks without
+ * collision shapes are resolved here without allocation, the others are left to {@link PhysicsUtils#simulateMovement}.
+ * <p>
+ * The results are consumed by {@link Entity} during its movement tick, if its position, velocity and ground state
+ * have not been changed since the batch was simulated, and if no block has been changed in the chunks it looked up.
+ */
+@ApiStatus.Internal
+public final class PhysicsBatch {
+    // Swept areas bigger than this are left to the regular physics
+    private static final int MAX_SWEPT_BLOCKS = 512;
+
+    private int size;
+    private Entity[] entities = new Entity[0];
+    private Pos[] positions = new Pos[0];
+    private Vec[] velocities = new Vec[0];
+    private boolean[] onGround = new boolean[0];
+    // Inputs, velocity in blocks/tick
+    private double[] posX = new double[0], posY = new double[0], posZ = new double[0];
+    private double[] velX = new double[0], velY = new double[0], velZ = new double[0];
+    private double[] minX = new double[0], minY = new double[0], minZ = new double[0];
+    private double[] maxX = new double[0], maxY = new double[0], maxZ = new double[0];
+    // Outputs
+    private boolean[] resolved = new boolean[0];
+    private double[] newPosX = new double[0], newPosY = new double[0], newPosZ = new double[0];
+    private double[] newVelX = new double[0], newVelY = new double[0], newVelZ = new double[0];
+    private boolean[] newOnGround = new boolean[0];
+    // Chunks looked up by each entity, with their block change version at the time of the simulation
+    private int[] chunkStart = new int[0], chunkEnd = new int[0];
+    private int chunkCount;
+    private Chunk[] chunks = new Chunk[0];
+    private int[] chunkVersions = new int[0];
+
+    // Chunk index -> chunk block index -> whether the block has a collision shape
+    private final Long2ObjectMap<Int2BooleanMap> collisionCache = new Long2ObjectOpenHashMap<>();
+    // Chunk index -> block change version the collision cache of the chunk has been filled at
+    private final Long2IntMap cacheVersions = new Long2IntOpenHashMap();
+    private Instance cacheInstance;
+    private ChunkCache blockGetter;
+
+    /**
+     * Simulates the movement of the entities in {@code elements}, other elements are ignored.
+     *
+     * @param elements the elements of the partition
+     */
+    public void simulate(@NotNull List<Tickable> elements) {
+        clear();
+        for (Tickable element : elements) {
+            if (element instanceof Entity entity && batchable(entity)) add(entity);
+        }
+        for (int i = 0; i < size; i++) {
+            final Entity entity = entities[i];
+            final Instance instance = entity.getInstance();
+            if (instance != cacheInstance) {
+                this.collisionCache.clear();
+                this.cacheVersions.clear();
+                this.cacheInstance = instance;
+                this.blockGetter = new ChunkCache(instance, entity.getChunk(), Block.STONE);
+            }
+            this.chunkStart[i] = chunkCount;
+            this.resolved[i] = step(i, entity.hasPhysics(), entity.hasNoGravity(),
+                    entity.getAerodynamics(), instance.getWorldBorder());
+            this.chunkEnd[i] = chunkCount;
+        }
+        this.collisionCache.clear();
+        this.cacheVersions.clear();
+        this.cacheInstance = null;
+        this.blockGetter = null;
+    }
+
+    /**
+     * Gets if the movement of {@code entity} has been resolved by the batch, and is still valid.
+     * <p>
+     * The result is outdated if the entity state, or a block in one of the chunks looked up during its simulation,
+     * has been changed since.
+     *
+     * @param index  the index of the entity in the batch
+     * @param entity the entity
+     * @return true if the result can be applied to the entity
+     */
+    public boolean resolved(int index, @NotNull Entity entity) {
+        if (index >= size || entities[index] != entity || !resolved[index] ||
+                positions[index] != entity.getPosition() || velocities[index] != entity.getVelocity() ||
+                onGround[index] != entity.isOnGround()) return false;
+        for (int i = chunkStart[index]; i < chunkEnd[index]; i++) {
+            if (chunks[i].getBlockChangeVersion() != chunkVersions[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the resolved position, keeping the view of the entity position.
+     *
+     * @param index the index of the entity in the batch
+     * @return the new position
+     */
+    public @NotNull Pos newPosition(int index) {
+        return positions[index].withCoord(newPosX[index], newPosY[index], newPosZ[index]);
+    }
+
+    /**
+     * Gets the resolved velocity.
+     *
+     * @param index the index of the entity in the batch
+     * @return the new velocity in blocks/tick
+     */
+    public @NotNull Vec newVelocity(int index) {
+        return new Vec(newVelX[index], newVelY[index], newVelZ[index]);
+    }
+
+    /**
+     * Gets the resolved ground state.
+     *
+     * @param index the index of the entity in the batch
+     * @return true if the entity is on the ground
+     */
+    public boolean newOnGround(int index) {
+        return newOnGround[index];
+    }
+
+    /**
+     * Releases the entities of the last simulation.
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(positions, 0, size, null);
+        Arrays.fill(velocities, 0, size, null);
+        Arrays.fill(chunks, 0, chunkCount, null);
+        this.size = 0;
+        this.chunkCount = 0;
+    }
+
+    private static boolean batchable(Entity entity) {
+        return entity.getInstance() != null && !entity.isRemoved() && !(entity instanceof Player) &&
+                entity.getVehicle() == null && !entity.isResting();
+    }
+
+    private void add(Entity entity) {
+        final int index = size++;
+        if (index == entities.length) grow(Math.max(16, index * 2));
+        final Pos position = entity.getPosition();
+        final Vec velocity = entity.getVelocity();
+        final BoundingBox boundingBox = entity.getBoundingBox();
+        this.entities[index] = entity;
+        entity.updatePhysicsBatch(this, index);
+        this.positions[index] = position;
+        this.velocities[index] = velocity;
+        this.onGround[index] = entity.isOnGround();
+        this.posX[index] = position.x();
+        this.posY[index] = position.y();
+        this.posZ[index] = position.z();
+        this.velX[index] = velocity.x() / ServerFlag.SERVER_TICKS_PER_SECOND;
+        this.velY[index] = velocity.y() / ServerFlag.SERVER_TICKS_PER_SECOND;
+        this.velZ[index] = velocity.z() / ServerFlag.SERVER_TICKS_PER_SECOND;
+        this.minX[index] = boundingBox.minX();
+        this.minY[index] = boundingBox.minY();
+        this.minZ[index] = boundingBox.minZ();
+        this.maxX[index] = boundingBox.maxX();
+        this.maxY[index] = boundingBox.maxY();
+        this.maxZ[index] = boundingBox.maxZ();
+    }
+
+    /**
+     * Moves the entity at {@code index} if no block with a collision shape is in its way,
+     * mirroring {@link PhysicsUtils#simulateMovement} without collision.
+     *
+     * @return false if the movement has to be simulated by the regular physics
+     */
+    private boolean step(int i, boolean hasPhysics, boolean noGravity, Aerodynamics aerodynamics, WorldBorder worldBorder) {
+        final double x = posX[i], y = posY[i], z = posZ[i];
+        final double dx = velX[i], dy = velY[i], dz = velZ[i];
+        final boolean moving = dx != 0 || dy != 0 || dz != 0;
+        if (hasPhysics && moving && !sweptAreaFree(i)) return false;
+
+        // Same sweep resolution as BlockCollision when nothing is hit
+        double newX = x + sweptDelta(dx), newY = y + sweptDelta(dy), newZ = z + sweptDelta(dz);
+        // World border, blocks movement on the crossed axis
+        final double radius = worldBorder.diameter() / 2;
+        if (newX > worldBorder.centerX() + radius || newX < worldBorder.centerX() - radius) newX = x;
+        if (newZ > worldBorder.centerZ() + radius || newZ < worldBorder.centerZ() - radius) newZ = z;
+        this.newPosX[i] = newX;
+        this.newPosY[i] = newY;
+        this.newPosZ[i] = newZ;
+        this.newOnGround[i] = false;
+
+        final boolean positionChanged = Double.compare(newX, x) != 0 || Double.compare(newY, y) != 0 ||
+                Double.compare(newZ, z) != 0;
+        if (!positionChanged) {
+            this.newVelX[i] = 0;
+            this.newVelY[i] = noGravity ? 0 : -aerodynamics.gravity() * aerodynamics.verticalAirResistance();
+            this.newVelZ[i] = 0;
+            return true;
+        }
+        if (onGround[i] && !trackChunks((int) Math.floor(x), (int) Math.floor(x), (int) Math.floor(z), (int) Math.floor(z))) {
+            return false;
+        }
+        final double drag = onGround[i] ?
+                blockGetter.getBlock((int) Math.floor(x), (int) Math.floor(y - 0.5000001), (int) Math.floor(z),
+                        Block.Getter.Condition.TYPE).registry().friction() * aerodynamics.horizontalAirResistance() :
+                aerodynamics.horizontalAirResistance();
+        // Without collision the velocity is unchanged before drag
+        final double velocityX = dx * drag;
+        final double velocityY = noGravity ? dy : (dy - aerodynamics.gravity()) * aerodynamics.verticalAirResistance();
+        final double velocityZ = dz * drag;
+        this.newVelX[i] = Math.abs(velocityX) < Vec.EPSILON ? 0 : velocityX;
+        this.newVelY[i] = Math.abs(velocityY) < Vec.EPSILON ? 0 : velocityY;
+        this.newVelZ[i] = Math.abs(velocityZ) < Vec.EPSILON ? 0 : velocityZ;
+        return true;
+    }
+
+    private static double sweptDelta(double velocity) {
+        final double delta = (1 - Vec.EPSILON) * velocity;
+        return Math.abs(delta) < Vec.EPSILON ? 0 : delta;
+    }
+
+    /**
+     * Checks the blocks overlapping the bounding box along its whole movement,
+     * including the layer below for shapes taller than a block.
+     */
+    private boolean sweptAreaFree(int i) {
+        final double x = posX[i], y = posY[i], z = posZ[i];
+        final double dx = velX[i], dy = velY[i], dz = velZ[i];
+        final int startX = (int) Math.floor(x + minX[i] + Math.min(dx, 0) - Vec.EPSILON);
+        final int endX = (int) Math.floor(x + maxX[i] + Math.max(dx, 0) + Vec.EPSILON);
+        final int startY = (int) Math.floor(y + minY[i] + Math.min(dy, 0) - Vec.EPSILON) - 1;
+        final int endY = (int) Math.floor(y + maxY[i] + Math.max(dy, 0) + Vec.EPSILON);
+        final int startZ = (int) Math.floor(z + minZ[i] + Math.min(dz, 0) - Vec.EPSILON);
+        final int endZ = (int) Math.floor(z + maxZ[i] + Math.max(dz, 0) + Vec.EPSILON);
+        final long volume = (long) (endX - startX + 1) * (endY - startY + 1) * (endZ - startZ + 1);
+        if (volume > MAX_SWEPT_BLOCKS || !trackChunks(startX, endX, startZ, endZ)) return false;
+        for (int blockX = startX; blockX <= endX; blockX++) {
+            for (int blockZ = startZ; blockZ <= endZ; blockZ++) {
+                final Int2BooleanMap chunkCache = collisionCache.computeIfAbsent(
+                        CoordConversion.chunkIndex(CoordConversion.globalToChunk(blockX), CoordConversion.globalToChunk(blockZ)),
+                        index -> new Int2BooleanOpenHashMap());
+                for (int blockY = startY; blockY <= endY; blockY++) {
+                    final int blockIndex = CoordConversion.chunkBlockIndex(blockX, blockY, blockZ);
+                    boolean collidable;
+                    if (chunkCache.containsKey(blockIndex)) {
+                        collidable = chunkCache.get(blockIndex);
+                    } else {
+                        final Block block = blockGetter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
+                        collidable = !(block.registry().collisionShape() instanceof ShapeImpl shape) ||
+                                !shape.collisionBoundingBoxes().isEmpty();
+                        chunkCache.put(blockIndex, collidable);
+                    }
+                    if (collidable) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the block change version of the chunks overlapping the block columns, for {@link #resolved(int, Entity)}.
+     *
+     * @return false if one of the chunks is not loaded
+     */
+    private boolean trackChunks(int startX, int endX, int startZ, int endZ) {
+        final int endChunkX = CoordConversion.globalToChunk(endX), endChunkZ = CoordConversion.globalToChunk(endZ);
+        for (int chunkX = CoordConversion.globalToChunk(startX); chunkX <= endChunkX; chunkX++) {
+            for (int chunkZ = CoordConversion.globalToChunk(startZ); chunkZ <= endChunkZ; chunkZ++) {
+                final Chunk chunk = cacheInstance.getChunk(chunkX, chunkZ);
+                if (chunk == null || !chunk.isLoaded()) return false;
+                final int version = chunk.getBlockChangeVersion();
+                final long chunkIndex = CoordConversion.chunkIndex(chunkX, chunkZ);
+                // Blocks changed since the collision cache of the chunk was filled
+                if (cacheVersions.containsKey(chunkIndex) && cacheVersions.get(chunkIndex) != version) {
+                    this.collisionCache.remove(chunkIndex);
+                }
+                this.cacheVersions.put(chunkIndex, version);
+                if (chunkCount == chunks.length) {
+                    final int capacity = Math.max(16, chunkCount * 2);
+                    this.chunks = Arrays.copyOf(chunks, capacity);
+                    this.chunkVersions = Arrays.copyOf(chunkVersions, capacity);
+                }
+                this.chunks[chunkCount] = chunk;
+                this.chunkVersions[chunkCount] = version;
+                this.chunkCount++;
+            }
+        }
+        return true;
+    }
+
+    private void grow(int capacity) {
+        this.entities = Arrays.copyOf(entities, capacity);
+        this.positions = Arrays.copyOf(positions, capacity);
+        this.velocities = Arrays.copyOf(velocities, capacity);
+        this.onGround = Arrays.copyOf(onGround, capacity);
+        this.posX = Arrays.copyOf(posX, capacity);
+        this.posY = Arrays.copyOf(posY, capacity);
+        this.posZ = Arrays.copyOf(posZ, capacity);
+        this.velX = Arrays.copyOf(velX, capacity);
+        this.velY = Arrays.copyOf(velY, capacity);
+        this.velZ = Arrays.copyOf(velZ, capacity);
+        this.minX = Arrays.copyOf(minX, capacity);
+        this.minY = Arrays.copyOf(minY, capacity);
+        this.minZ = Arrays.copyOf(minZ, capacity);
+        this.maxX = Arrays.copyOf(maxX, capacity);
+        this.maxY = Arrays.copyOf(maxY, capacity);
+        this.maxZ = Arrays.copyOf(maxZ, capacity);
+        this.resolved = Arrays.copyOf(resolved, capacity);
+        this.newPosX = Arrays.copyOf(newPosX, capacity);
+        this.newPosY = Arrays.copyOf(newPosY, capacity);
+        this.newPosZ = Arrays.copyOf(newPosZ, capacity);
+        this.newVelX = Arrays.copyOf(newVelX, capacity);
+        this.newVelY = Arrays.copyOf(newVelY, capacity);
+        this.newVelZ = Arrays.copyOf(newVelZ, capacity);
+        this.newOnGround = Arrays.copyOf(newOnGround, capacity);
+        this.chunkStart = Arrays.copyOf(chunkStart, capacity);
+        this.chunkEnd = Arrays.copyOf(chunkEnd, capacity);
+    }
+}
@@ -15,19 +15,37 @@ final class RayUtils {
      * @return true if an intersection between the ray and the bounding box was found
      */
     public static boolean BoundingBoxIntersectionCheck(BoundingBox moving, Point rayStart, Point rayDirection, BoundingBox collidableStatic, Point staticCollidableOffset, SweepResult finalResult) {
-        Point bbCentre = new Vec(moving.minX() + moving.width() / 2, moving.minY() + moving.height() / 2, moving.minZ() + moving.depth() / 2);
-        Point rayCentre = rayStart.add(bbCentre);
+        return BoundingBoxIntersectionCheck(moving, rayStart.x(), rayStart.y(), rayStart.z(),
+                rayDirection.x(), rayDirection.y(), rayDirection.z(), collidableStatic,
+                staticCollidableOffset.x(), staticCollidableOffset.y(), staticCollidableOffset.z(), finalResult);
+    }
+
+    /**
+     * Same as {@link #BoundingBoxIntersectionCheck(BoundingBox, Point, Point, BoundingBox, Point, SweepResult)},
+     * without allocating.
+     */
+    static boolean BoundingBoxIntersectionCheck(BoundingBox moving, double rayStartX, double rayStartY, double rayStartZ,
+                                                double directionX, double directionY, double directionZ,
+                                                BoundingBox collidableStatic, double offsetX, double offsetY, double offsetZ,
+                                                SweepResult finalResult) {
+        final double rayCentreX = rayStartX + (moving.minX() + moving.width() / 2);
+        final double rayCentreY = rayStartY + (moving.minY() + moving.height() / 2);
+        final double rayCentreZ = rayStartZ + (moving.minZ() + moving.depth() / 2);
 
         // Translate bounding box
-        Vec bbOffMin = new Vec(collidableStatic.minX() - rayCentre.x() + staticCollidableOffset.x() - moving.width() / 2, collidableStatic.minY() - rayCentre.y() + staticCollidableOffset.y() - moving.height() / 2, collidableStatic.minZ() - rayCentre.z() + staticCollidableOffset.z() - moving.depth() / 2);
-        Vec bbOffMax = new Vec(collidableStatic.maxX() - rayCentre.x() + staticCollidableOffset.x() + moving.width() / 2, collidableStatic.maxY() - rayCentre.y() + staticCollidableOffset.y() + moving.height() / 2, collidableStatic.maxZ() - rayCentre.z() + staticCollidableOffset.z() + moving.depth() / 2);
+        final double offMinX = collidableStatic.minX() - rayCentreX + offsetX - moving.width() / 2;
+        final double offMinY = collidableStatic.minY() - rayCentreY + offsetY - moving.height() / 2;
+        final double offMinZ = collidableStatic.minZ() - rayCentreZ + offsetZ - moving.depth() / 2;
+        final double offMaxX = collidableStatic.maxX() - rayCentreX + offsetX + moving.width() / 2;
+        final double offMaxY = collidableStatic.maxY() - rayCentreY + offsetY + moving.height() / 2;
+        final double offMaxZ = collidableStatic.maxZ() - rayCentreZ + offsetZ + moving.depth() / 2;
 
         // This check is done in 2d. it can be visualised as a rectangle (the face we are checking), and a point.
         // If the point is within the rectangle, we know the vector intersects the face.
 
-        double signumRayX = Math.signum(rayDirection.x());
-        double signumRayY = Math.signum(rayDirection.y());
-        double signumRayZ = Math.signum(rayDirection.z());
+        double signumRayX = Math.signum(directionX);
+        double signumRayY = Math.signum(directionY);
+        double signumRayZ = Math.signum(directionZ);
 
         boolean isHit = false;
         double percentage = Double.MAX_VALUE;
@@ -35,19 +53,19 @@ final class RayUtils {
 
         // Intersect X
         // Left side of bounding box
-        if (rayDirection.x() > 0) {
-            double xFac = epsilon(bbOffMin.x() / rayDirection.x());
+        if (directionX > 0) {
+            double xFac = epsilon(offMinX / directionX);
             if (xFac < percentage) {
-                double yix = rayDirection.y() * xFac + rayCentre.y();
-                double zix = rayDirection.z() * xFac + rayCentre.z();
+                double yix = directionY * xFac + rayCentreY;
+                double zix = directionZ * xFac + rayCentreZ;
 
                 // Check if ray passes through y/z plane
-                if (((yix - rayCentre.y()) * signumRayY) >= 0
-                        && ((zix - rayCentre.z()) * signumRayZ) >= 0
-                        && yix >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yix <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2
-                        && zix >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && zix <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                if (((yix - rayCentreY) * signumRayY) >= 0
+                        && ((zix - rayCentreZ) * signumRayZ) >= 0
+                        && yix >= collidableStatic.minY() + offsetY - moving.height() / 2
+                        && yix <= collidableStatic.maxY() + offsetY + moving.height() / 2
+                        && zix >= collidableStatic.minZ() + offsetZ - moving.depth() / 2
+                        && zix <= collidableStatic.maxZ() + offsetZ + moving.depth() / 2) {
                     isHit = true;
                     percentage = xFac;
                     collisionFace = 0;
@@ -55,18 +73,18 @@ final class RayUtils {
             }
         }
         // Right side of bounding box
-        if (rayDirection.x() < 0) {
-            double xFac = epsilon(bbOffMax.x() / rayDirection.x());
+        if (directionX < 0) {
+            double xFac = epsilon(offMaxX / directionX);
             if (xFac < percentage) {
-                double yix = rayDirection.y() * xFac + rayCentre.y();
-                double zix = rayDirection.z() * xFac + rayCentre.z();
-
-                if (((yix - rayCentre.y()) * signumRayY) >= 0
-                        && ((zix - rayCentre.z()) * signumRayZ) >= 0
-                        && yix >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yix <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2
-                        && zix >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && zix <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                double yix = directionY * xFac + rayCentreY;
+                double zix = directionZ * xFac + rayCentreZ;
+
+                if (((yix - rayCentreY) * signumRayY) >= 0
+                        && ((zix - rayCentreZ) * signumRayZ) >= 0
+                        && yix >= collidableStatic.minY() + offsetY - moving.height() / 2
+                        && yix <= collidableStatic.maxY() + offsetY + moving.height() / 2
+                        && zix >= collidableStatic.minZ() + offsetZ - moving.depth() / 2
+                        && zix <= collidableStatic.maxZ() + offsetZ + moving.depth() / 2) {
                     isHit = true;
                     percentage = xFac;
                     collisionFace = 0;
@@ -75,36 +93,36 @@ final class RayUtils {
         }
 
         // Intersect Z
-        if (rayDirection.z() > 0) {
-            double zFac = epsilon(bbOffMin.z() / rayDirection.z());
+        if (directionZ > 0) {
+            double zFac = epsilon(offMinZ / directionZ);
             if (zFac < percentage) {
-                double xiz = rayDirection.x() * zFac + rayCentre.x();
-                double yiz = rayDirection.y() * zFac + rayCentre.y();
-
-                if (((yiz - rayCentre.y()) * signumRayY) >= 0
-                        && ((xiz - rayCentre.x()) * signumRayX) >= 0
-                        && xiz >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiz <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && yiz >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yiz <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2) {
+                double xiz = directionX * zFac + rayCentreX;
+                double yiz = directionY * zFac + rayCentreY;
+
+                if (((yiz - rayCentreY) * signumRayY) >= 0
+                        && ((xiz - rayCentreX) * signumRayX) >= 0
+                        && xiz >= collidableStatic.minX() + offsetX - moving.width() / 2
+                        && xiz <= collidableStatic.maxX() + offsetX + moving.width() / 2
+                        && yiz >= collidableStatic.minY() + offsetY - moving.height() / 2
+                        && yiz <= collidableStatic.maxY() + offsetY + moving.height() / 2) {
                     isHit = true;
                     percentage = zFac;
                     collisionFace = 1;
                 }
             }
         }
-        if (rayDirection.z() < 0) {
-            double zFac = epsilon(bbOffMax.z() / rayDirection.z());
+        if (directionZ < 0) {
+            double zFac = epsilon(offMaxZ / directionZ);
             if (zFac < percentage) {
-                double xiz = rayDirection.x() * zFac + rayCentre.x();
-                double yiz = rayDirection.y() * zFac + rayCentre.y();
-
-                if (((yiz - rayCentre.y()) * signumRayY) >= 0
-                        && ((xiz - rayCentre.x()) * signumRayX) >= 0
-                        && xiz >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiz <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && yiz >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yiz <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2) {
+                double xiz = directionX * zFac + rayCentreX;
+                double yiz = directionY * zFac + rayCentreY;
+
+                if (((yiz - rayCentreY) * signumRayY) >= 0
+                        && ((xiz - rayCentreX) * signumRayX) >= 0
+                        && xiz >= collidableStatic.minX() + offsetX - moving.width() / 2
+                        && xiz <= collidableStatic.maxX() + offsetX + moving.width() / 2
+                        && yiz >= collidableStatic.minY() + offsetY - moving.height() / 2
+                        && yiz <= collidableStatic.maxY() + offsetY + moving.height() / 2) {
                     isHit = true;
                     percentage = zFac;
                     collisionFace = 1;
@@ -113,18 +131,18 @@ final class RayUtils {
         }
 
         // Intersect Y
-        if (rayDirection.y() > 0) {
-            double yFac = epsilon(bbOffMin.y() / rayDirection.y());
+        if (directionY > 0) {
+            double yFac = epsilon(offMinY / directionY);
             if (yFac < percentage) {
-                double xiy = rayDirection.x() * yFac + rayCentre.x();
-                double ziy = rayDirection.z() * yFac + rayCentre.z();
-
-                if (((ziy - rayCentre.z()) * signumRayZ) >= 0
-                        && ((xiy - rayCentre.x()) * signumRayX) >= 0
-                        && xiy >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiy <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && ziy >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && ziy <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                double xiy = directionX * yFac + rayCentreX;
+                double ziy = directionZ * yFac + rayCentreZ;
+
+                if (((ziy - rayCentreZ) * signumRayZ) >= 0
+                        && ((xiy - rayCentreX) * signumRayX) >= 0
+                        && xiy >= collidableStatic.minX() + offsetX - moving.width() / 2
+                        && xiy <= collidableStatic.maxX() + offsetX + moving.width() / 2
+                        && ziy >= collidableStatic.minZ() + offsetZ - moving.depth() / 2
+                        && ziy <= collidableStatic.maxZ() + offsetZ + moving.depth() / 2) {
                     isHit = true;
                     percentage = yFac;
                     collisionFace = 2;
@@ -132,18 +150,18 @@ final class RayUtils {
             }
         }
 
-        if (rayDirection.y() < 0) {
-            double yFac = epsilon(bbOffMax.y() / rayDirection.y());
+        if (directionY < 0) {
+            double yFac = epsilon(offMaxY / directionY);
             if (yFac < percentage) {
-                double xiy = rayDirection.x() * yFac + rayCentre.x();
-                double ziy = rayDirection.z() * yFac + rayCentre.z();
-
-                if (((ziy - rayCentre.z()) * signumRayZ) >= 0
-                        && ((xiy - rayCentre.x()) * signumRayX) >= 0
-                        && xiy >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiy <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && ziy >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && ziy <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                double xiy = directionX * yFac + rayCentreX;
+                double ziy = directionZ * yFac + rayCentreZ;
+
+                if (((ziy - rayCentreZ) * signumRayZ) >= 0
+                        && ((xiy - rayCentreX) * signumRayX) >= 0
+                        && xiy >= collidableStatic.minX() + offsetX - moving.width() / 2
+                        && xiy <= collidableStatic.maxX() + offsetX + moving.width() / 2
+                        && ziy >= collidableStatic.minZ() + offsetZ - moving.depth() / 2
+                        && ziy <= collidableStatic.maxZ() + offsetZ + moving.depth() / 2) {
                     isHit = true;
                     percentage = yFac;
                     collisionFace = 2;
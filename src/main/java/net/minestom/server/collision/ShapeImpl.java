@@ -107,16 +107,30 @@ public record ShapeImpl(CollisionData collisionData, LightData lightData) implem
     @Override
     public boolean intersectBoxSwept(@NotNull Point rayStart, @NotNull Point rayDirection,
                                      @NotNull Point shapePos, @NotNull BoundingBox moving, @NotNull SweepResult finalResult) {
+        return intersectBoxSwept(rayStart.x(), rayStart.y(), rayStart.z(), rayDirection.x(), rayDirection.y(), rayDirection.z(),
+                shapePos.x(), shapePos.y(), shapePos.z(), moving, finalResult);
+    }
+
+    /**
+     * Same as {@link #intersectBoxSwept(Point, Point, Point, BoundingBox, SweepResult)}, without allocating.
+     */
+    boolean intersectBoxSwept(double rayStartX, double rayStartY, double rayStartZ,
+                              double directionX, double directionY, double directionZ,
+                              double shapeX, double shapeY, double shapeZ,
+                              @NotNull BoundingBox moving, @NotNull SweepResult finalResult) {
         boolean hitBlock = false;
-        for (BoundingBox blockSection : collisionData.collisionBoundingBoxes) {
+        final List<BoundingBox> boxes = collisionData.collisionBoundingBoxes;
+        for (int i = 0; i < boxes.size(); i++) {
+            final BoundingBox blockSection = boxes.get(i);
             // Update final result if the temp result collision is sooner than the current final result
-            if (RayUtils.BoundingBoxIntersectionCheck(moving, rayStart, rayDirection, blockSection, shapePos, finalResult)) {
-                finalResult.collidedPositionX = rayStart.x() + rayDirection.x() * finalResult.res;
-                finalResult.collidedPositionY = rayStart.y() + rayDirection.y() * finalResult.res;
-                finalResult.collidedPositionZ = rayStart.z() + rayDirection.z() * finalResult.res;
-                finalResult.collidedShapeX = shapePos.x();
-                finalResult.collidedShapeY = shapePos.y();
-                finalResult.collidedShapeZ = shapePos.z();
+            if (RayUtils.BoundingBoxIntersectionCheck(moving, rayStartX, rayStartY, rayStartZ,
+                    directionX, directionY, directionZ, blockSection, shapeX, shapeY, shapeZ, finalResult)) {
+                finalResult.collidedPositionX = rayStartX + directionX * finalResult.res;
+                finalResult.collidedPositionY = rayStartY + directionY * finalResult.res;
+                finalResult.collidedPositionZ = rayStartZ + directionZ * finalResult.res;
+                finalResult.collidedShapeX = shapeX;
+                finalResult.collidedShapeY = shapeY;
+                finalResult.collidedShapeZ = shapeZ;
                 finalResult.collidedShape = this;
                 hitBlock = true;
             }
@@ -1,5 +1,6 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -80,6 +81,8 @@ import java.util.function.UnaryOperator;
 public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, EventHandler<EntityEvent>, Taggable,
         HoverEventSource<ShowEntity>, Sound.Emitter, Shape, AcquirableSource<Entity> {
     private static final AtomicInteger LAST_ENTITY_ID = new AtomicInteger();
+    // Number of stationary ticks before an entity rests
+    private static final int REST_DELAY_TICKS = 10;
 
     // Certain entities should only have their position packets sent during synchronization
     private static final Set<EntityType> SYNCHRONIZE_ONLY_ENTITIES = Set.of(EntityType.ITEM, EntityType.FALLING_BLOCK,
@@ -103,6 +106,9 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     protected BoundingBox boundingBox;
     private PhysicsResult previousPhysicsResult = null;
+    // Movement precomputed by the partition, consumed by the next movement tick
+    private PhysicsBatch physicsBatch;
+    private int physicsBatchIndex;
 
     protected Entity vehicle;
 
@@ -116,6 +122,13 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     private Aerodynamics aerodynamics;
     protected int gravityTickCount; // Number of tick where gravity tick was applied
 
+    // Resting entities skip physics and block touch checks until something changes around them
+    private boolean restingEnabled = ServerFlag.ENTITY_RESTING && !(this instanceof Player);
+    private boolean resting;
+    private int stationaryTicks;
+    private Pos restPosition;
+    private long restChunkVersion;
+
     private final int id;
     // Players must be aware of all surrounding entities
     // General entities should only be aware of surrounding players to update their viewing list
@@ -556,11 +569,18 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
         // Entity tick
         {
-            // handle position and velocity updates
-            movementTick();
+            if (resting && shouldWakeUp()) wakeUp();
+            if (!resting) {
+                final Pos previousPosition = this.position;
+
+                // handle position and velocity updates
+                movementTick();
 
-            // handle block contacts
-            touchTick();
+                // handle block contacts
+                final boolean touching = touchTick();
+
+                restTick(previousPosition, touching);
+            }
 
             // Call the abstract update method
             update(time);
@@ -585,6 +605,21 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.gravityTickCount = onGround ? 0 : gravityTickCount + 1;
         if (vehicle != null) return;
 
+        final PhysicsBatch physicsBatch = this.physicsBatch;
+        if (physicsBatch != null) {
+            this.physicsBatch = null;
+            if (physicsBatch.resolved(physicsBatchIndex, this)) {
+                final Pos newPosition = physicsBatch.newPosition(physicsBatchIndex);
+                // Movement without collision, nothing for the next simulation to reuse
+                this.previousPhysicsResult = null;
+                if (!ChunkUtils.isLoaded(ChunkUtils.retrieve(instance, currentChunk, newPosition))) return;
+                velocity = physicsBatch.newVelocity(physicsBatchIndex).mul(ServerFlag.SERVER_TICKS_PER_SECOND);
+                onGround = physicsBatch.newOnGround(physicsBatchIndex);
+                refreshPosition(newPosition, true, !SYNCHRONIZE_ONLY_ENTITIES.contains(entityType));
+                return;
+            }
+        }
+
         boolean entityIsPlayer = this instanceof Player;
         boolean entityFlying = entityIsPlayer && ((Player) this).isFlying();
         final Block.Getter chunkCache = new ChunkCache(instance, currentChunk, Block.STONE);
@@ -602,13 +637,29 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
     }
 
-    private void touchTick() {
-        if (!hasPhysics) return;
+    /**
+     * Links the entity to the batch that simulated its movement for the current tick.
+     *
+     * @param physicsBatch the batch, null to compute the movement during {@link #movementTick()}
+     * @param index        the index of the entity in the batch
+     */
+    @ApiStatus.Internal
+    public void updatePhysicsBatch(@Nullable PhysicsBatch physicsBatch, int index) {
+        this.physicsBatch = physicsBatch;
+        this.physicsBatchIndex = index;
+    }
+
+    /**
+     * Checks the blocks touching the entity bounding box.
+     *
+     * @return true if a block with a handler is in the bounding box, the entity should not rest
+     */
+    private boolean touchTick() {
+        if (!hasPhysics) return false;
 
-        // TODO do not call every tick (it is pretty expensive)
         final Pos position = this.position;
         final BoundingBox boundingBox = this.boundingBox;
-        ChunkCache cache = new ChunkCache(instance, currentChunk);
+        ChunkCache cache = null;
 
         final int minX = (int) Math.floor(boundingBox.minX() + position.x());
         final int maxX = (int) Math.ceil(boundingBox.maxX() + position.x());
@@ -617,23 +668,124 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         final int minZ = (int) Math.floor(boundingBox.minZ() + position.z());
         final int maxZ = (int) Math.ceil(boundingBox.maxZ() + position.z());
 
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    final Block block = cache.getBlock(x, y, z, Block.Getter.Condition.CACHED);
-                    if (block == null) continue;
-                    final BlockHandler handler = block.handler();
-                    if (handler != null) {
-                        // Move a small amount towards the entity. If the entity is within 0.01 blocks of the block, touch will trigger
-                        Vec blockPos = new Vec(x, y, z);
-                        Point blockEntityVector = (blockPos.sub(position)).normalize().mul(0.01);
-                        if (block.registry().collisionShape().intersectBox(position.sub(blockPos).add(blockEntityVector), boundingBox)) {
-                            handler.onTouch(new BlockHandler.Touch(block, instance, new Vec(x, y, z), this));
+        boolean touching = false;
+        for (int chunkX = CoordConversion.globalToChunk(minX); chunkX <= CoordConversion.globalToChunk(maxX); chunkX++) {
+            for (int chunkZ = CoordConversion.globalToChunk(minZ); chunkZ <= CoordConversion.globalToChunk(maxZ); chunkZ++) {
+                final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+                if (chunk == null) continue;
+                // Only look up indexed blocks, skipping chunks without any
+                final Int2ObjectMap<Block> touchableBlocks = chunk.getTouchableBlocks();
+                if (touchableBlocks != null && touchableBlocks.isEmpty()) continue;
+                if (touchableBlocks == null && cache == null) cache = new ChunkCache(instance, chunk);
+                final int startX = Math.max(minX, chunkX * Chunk.CHUNK_SIZE_X);
+                final int endX = Math.min(maxX, chunkX * Chunk.CHUNK_SIZE_X + Chunk.CHUNK_SIZE_X - 1);
+                final int startZ = Math.max(minZ, chunkZ * Chunk.CHUNK_SIZE_Z);
+                final int endZ = Math.min(maxZ, chunkZ * Chunk.CHUNK_SIZE_Z + Chunk.CHUNK_SIZE_Z - 1);
+                for (int y = minY; y <= maxY; y++) {
+                    for (int x = startX; x <= endX; x++) {
+                        for (int z = startZ; z <= endZ; z++) {
+                            final Block block = touchableBlocks != null ?
+                                    touchableBlocks.get(CoordConversion.chunkBlockIndex(x, y, z)) :
+                                    cache.getBlock(x, y, z, Block.Getter.Condition.CACHED);
+                            if (block == null) continue;
+                            final BlockHandler handler = block.handler();
+                            if (handler != null) {
+                                touching = true;
+                                // Move a small amount towards the entity. If the entity is within 0.01 blocks of the block, touch will trigger
+                                Vec blockPos = new Vec(x, y, z);
+                                Point blockEntityVector = (blockPos.sub(position)).normalize().mul(0.01);
+                                if (block.registry().collisionShape().intersectBox(position.sub(blockPos).add(blockEntityVector), boundingBox)) {
+                                    handler.onTouch(new BlockHandler.Touch(block, instance, new Vec(x, y, z), this));
+                                }
+                            }
                         }
                     }
                 }
             }
         }
+        return touching;
+    }
+
+    private void restTick(@NotNull Pos previousPosition, boolean touching) {
+        // Entities without gravity (e.g. holograms) rest wherever they float
+        if (!restingEnabled || touching || vehicle != null || (!onGround && !hasNoGravity()) || hasVelocity() ||
+                !previousPosition.samePoint(position)) {
+            this.stationaryTicks = 0;
+            return;
+        }
+        if (++stationaryTicks >= REST_DELAY_TICKS) {
+            this.resting = true;
+            this.restPosition = position;
+            this.restChunkVersion = nearbyChunkVersion();
+        }
+    }
+
+    private boolean shouldWakeUp() {
+        return hasVelocity() || vehicle != null || (!onGround && !hasNoGravity()) || !position.samePoint(restPosition) ||
+                restChunkVersion != nearbyChunkVersion();
+    }
+
+    /**
+     * Combines the block change versions of the chunks containing blocks around the entity.
+     */
+    private long nearbyChunkVersion() {
+        final int minChunkX = CoordConversion.globalToChunk(position.x() + boundingBox.minX() - 1);
+        final int maxChunkX = CoordConversion.globalToChunk(position.x() + boundingBox.maxX() + 1);
+        final int minChunkZ = CoordConversion.globalToChunk(position.z() + boundingBox.minZ() - 1);
+        final int maxChunkZ = CoordConversion.globalToChunk(position.z() + boundingBox.maxZ() + 1);
+        long version = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final Chunk chunk = currentChunk.getChunkX() == chunkX && currentChunk.getChunkZ() == chunkZ ?
+                        currentChunk : instance.getChunk(chunkX, chunkZ);
+                version = version * 31 + (chunk != null ? chunk.getBlockChangeVersion() : -1);
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Gets if the entity is resting.
+     * <p>
+     * A resting entity has been stationary on the ground, or anywhere without gravity, for a few ticks, and skips its physics and block touch checks
+     * until it gets a velocity, moves, a block changes nearby, or {@link #wakeUp()} is called.
+     *
+     * @return true if the entity is resting
+     * @see ServerFlag#ENTITY_RESTING
+     */
+    public boolean isResting() {
+        return resting;
+    }
+
+    /**
+     * Wakes up the entity if resting, its physics will be computed on the next tick.
+     */
+    public void wakeUp() {
+        this.resting = false;
+        this.stationaryTicks = 0;
+        this.restPosition = null;
+    }
+
+    /**
+     * Gets if the entity can rest when stationary.
+     *
+     * @return true if resting is enabled
+     * @see #isResting()
+     */
+    public boolean isRestingEnabled() {
+        return restingEnabled;
+    }
+
+    /**
+     * Changes if the entity can rest when stationary, defaults to {@link ServerFlag#ENTITY_RESTING}.
+     * Players never rest by default.
+     *
+     * @param restingEnabled true to enable resting
+     * @see #isResting()
+     */
+    public void setRestingEnabled(boolean restingEnabled) {
+        this.restingEnabled = restingEnabled;
+        if (!restingEnabled) wakeUp();
     }
 
     private void effectTick() {
@@ -735,6 +887,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public void setBoundingBox(BoundingBox boundingBox) {
         this.boundingBox = boundingBox;
+        wakeUp();
     }
 
     /**
@@ -1208,6 +1361,15 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.entityMeta.setSilent(silent);
     }
 
+    /**
+     * Gets if the entity collides with blocks when moving.
+     *
+     * @return true if the entity has physics
+     */
+    public boolean hasPhysics() {
+        return hasPhysics;
+    }
+
     /**
      * Gets the noGravity metadata field.
      *
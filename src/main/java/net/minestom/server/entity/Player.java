@@ -1,7 +1,9 @@
 package net.minestom.server.entity;
 
 import it.unimi.dsi.fastutil.longs.LongArrayPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.identity.Identified;
@@ -146,17 +148,35 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
      */
     private Vec chunksLoadedByClient = Vec.ZERO;
     private final ReentrantLock chunkQueueLock = new ReentrantLock();
-    private final LongPriorityQueue chunkQueue = new LongArrayPriorityQueue(this::compareChunkDistance);
+    private final LongPriorityQueue chunkQueue = new LongArrayPriorityQueue(this::compareChunkPriority);
+    private final LongSet queuedChunks = new LongOpenHashSet();
     private boolean needsChunkPositionSync = true;
     private float targetChunksPerTick = 9f; // Always send 9 chunks immediately
     private float pendingChunkCount = 0f; // Number of chunks to send on the current tick (ie 0.5 means we cannot send a chunk yet, 1.5 would send a single chunk with a 0.5 remainder)
     private int maxChunkBatchLead = 1; // Maximum number of batches to send before waiting for a reply
     private int chunkBatchLead = 0; // Number of batches sent without a reply
 
+    // Chunk streaming, chunks are prioritized by distance and by the direction the player is looking and moving to
+    private static final double STREAM_DIRECTION_WEIGHT = 0.5;
+    private static final double STREAM_MAX_SPEED = 1.0; // blocks/tick, speed at which movement outweighs the view
+    private static final double PREFETCH_MIN_SPEED = 0.4; // blocks/tick, faster than sprinting
+    private Pos lastStreamPosition;
+    private double streamVelocityX, streamVelocityZ; // Smoothed movement in blocks/tick
+    private double streamOriginX, streamOriginZ; // In chunks
+    private double streamDirectionX, streamDirectionZ;
+    private long lastPrefetchChunk = Long.MIN_VALUE;
+    private float averageChunksSentPerTick;
+    private long sentChunkCount;
+    private long droppedChunkCount;
+
     final ChunkRange.ChunkConsumer chunkAdder = (chunkX, chunkZ) -> {
         // Load new chunks
         this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(this::sendChunk);
     };
+    private final ChunkRange.ChunkConsumer chunkPrefetcher = (chunkX, chunkZ) -> {
+        // Only load, the chunk is sent once in view
+        this.instance.loadOptionalChunk(chunkX, chunkZ);
+    };
     final ChunkRange.ChunkConsumer chunkRemover = (chunkX, chunkZ) -> {
         // Unload old chunks
         sendPacket(new UnloadChunkPacket(chunkX, chunkZ));
@@ -381,7 +401,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         if (isRemoved()) return;
 
         // Send any available queued chunks
-        sendPendingChunks();
+        chunkStreamingTick();
 
         super.update(time); // Super update (item pickup/fire management)
 
@@ -507,8 +527,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         Pos respawnPosition = respawnEvent.getRespawnPosition();
 
         // The client unloads chunks when respawning, so resend all chunks next to spawn
-        ChunkRange.chunksInRange(respawnPosition, settings.effectiveViewDistance(), chunkAdder);
         chunksLoadedByClient = new Vec(respawnPosition.chunkX(), respawnPosition.chunkZ());
+        ChunkRange.chunksInRange(respawnPosition, settings.effectiveViewDistance(), chunkAdder);
         // Client also needs all entities resent to them, since those are unloaded as well
         this.instance.getEntityTracker().nearbyEntitiesByChunkRange(respawnPosition, settings.effectiveViewDistance(),
                 EntityTracker.Target.ENTITIES, entity -> {
@@ -719,6 +739,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
             chunksLoadedByClient = new Vec(chunkX, chunkZ);
             chunkUpdateLimitChecker.addToHistory(getChunk());
             sendPacket(new UpdateViewPositionPacket(chunkX, chunkZ));
+            resetChunkStreaming();
 
             // Load the nearby chunks and queue them to be sent to them
             ChunkRange.chunksInRange(spawnPosition, settings.effectiveViewDistance(), chunkAdder);
@@ -764,12 +785,125 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         if (!chunk.isLoaded()) return;
         chunkQueueLock.lock();
         try {
-            chunkQueue.enqueue(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
+            // The player may have moved away while the chunk was loading
+            if (!isChunkInView(chunk.getChunkX(), chunk.getChunkZ())) {
+                this.droppedChunkCount++;
+                return;
+            }
+            final long chunkIndex = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+            if (queuedChunks.add(chunkIndex)) chunkQueue.enqueue(chunkIndex);
+        } finally {
+            chunkQueueLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of chunks waiting to be sent to the player.
+     *
+     * @return the chunk queue size
+     */
+    public int getChunkQueueSize() {
+        chunkQueueLock.lock();
+        try {
+            return chunkQueue.size();
         } finally {
             chunkQueueLock.unlock();
         }
     }
 
+    /**
+     * Gets the average number of chunks sent to the player per tick, over the last seconds.
+     *
+     * @return the average chunk send rate
+     */
+    public float getAverageChunksSentPerTick() {
+        return averageChunksSentPerTick;
+    }
+
+    /**
+     * Gets the number of chunks sent to the player since it joined.
+     *
+     * @return the sent chunk count
+     */
+    public long getSentChunkCount() {
+        return sentChunkCount;
+    }
+
+    /**
+     * Gets the number of queued chunks that left the view distance before being sent.
+     *
+     * @return the dropped chunk count
+     */
+    public long getDroppedChunkCount() {
+        return droppedChunkCount;
+    }
+
+    private void chunkStreamingTick() {
+        refreshChunkStreaming();
+        prefetchChunks();
+        final long sentBefore = sentChunkCount;
+        sendPendingChunks();
+        this.averageChunksSentPerTick += ((sentChunkCount - sentBefore) - averageChunksSentPerTick) / 20f;
+    }
+
+    /**
+     * Updates the origin and direction used to prioritize the queued chunks.
+     */
+    private void refreshChunkStreaming() {
+        final Pos position = this.position;
+        final Pos lastPosition = this.lastStreamPosition;
+        if (lastPosition != null) {
+            this.streamVelocityX += (position.x() - lastPosition.x() - streamVelocityX) / 4;
+            this.streamVelocityZ += (position.z() - lastPosition.z() - streamVelocityZ) / 4;
+        }
+        this.lastStreamPosition = position;
+        this.streamOriginX = position.x() / Chunk.CHUNK_SIZE_X;
+        this.streamOriginZ = position.z() / Chunk.CHUNK_SIZE_Z;
+        // View direction, replaced by the movement direction as the player gets faster
+        final double yaw = Math.toRadians(position.yaw());
+        final double speed = Math.sqrt(streamVelocityX * streamVelocityX + streamVelocityZ * streamVelocityZ);
+        final double movementWeight = Math.min(speed / STREAM_MAX_SPEED, 1);
+        double directionX = -Math.sin(yaw) * (1 - movementWeight);
+        double directionZ = Math.cos(yaw) * (1 - movementWeight);
+        if (speed > Vec.EPSILON) {
+            directionX += streamVelocityX / speed * movementWeight;
+            directionZ += streamVelocityZ / speed * movementWeight;
+        }
+        this.streamDirectionX = directionX;
+        this.streamDirectionZ = directionZ;
+    }
+
+    private void resetChunkStreaming() {
+        this.lastStreamPosition = null;
+        this.streamVelocityX = 0;
+        this.streamVelocityZ = 0;
+        this.lastPrefetchChunk = Long.MIN_VALUE;
+        refreshChunkStreaming();
+    }
+
+    /**
+     * Loads the chunks that will enter the view distance along the player trajectory.
+     */
+    private void prefetchChunks() {
+        if (ServerFlag.CHUNK_PREFETCH_TICKS <= 0) return;
+        final double speed = Math.sqrt(streamVelocityX * streamVelocityX + streamVelocityZ * streamVelocityZ);
+        if (speed < PREFETCH_MIN_SPEED) return;
+        final int predictedX = CoordConversion.globalToChunk(position.x() + streamVelocityX * ServerFlag.CHUNK_PREFETCH_TICKS);
+        final int predictedZ = CoordConversion.globalToChunk(position.z() + streamVelocityZ * ServerFlag.CHUNK_PREFETCH_TICKS);
+        final long predictedChunk = CoordConversion.chunkIndex(predictedX, predictedZ);
+        if (predictedChunk == lastPrefetchChunk) return;
+        this.lastPrefetchChunk = predictedChunk;
+        final Vec center = chunksLoadedByClient;
+        ChunkRange.chunksInRangeDiffering(predictedX, predictedZ, center.blockX(), center.blockZ(),
+                settings.effectiveViewDistance(), chunkPrefetcher);
+    }
+
+    private boolean isChunkInView(int chunkX, int chunkZ) {
+        final Vec center = chunksLoadedByClient;
+        final int range = settings.effectiveViewDistance();
+        return Math.abs(chunkX - center.blockX()) <= range && Math.abs(chunkZ - center.blockZ()) <= range;
+    }
+
     private void sendPendingChunks() {
         // If we have nothing to send or have sent the max # of batches without reply, do nothing
         if (chunkQueue.isEmpty() || chunkBatchLead >= maxChunkBatchLead) return;
@@ -784,7 +918,13 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
             sendPacket(new ChunkBatchStartPacket());
             while (!chunkQueue.isEmpty() && pendingChunkCount >= 1f) {
                 long chunkIndex = chunkQueue.dequeueLong();
+                queuedChunks.remove(chunkIndex);
                 int chunkX = CoordConversion.chunkIndexGetX(chunkIndex), chunkZ = CoordConversion.chunkIndexGetZ(chunkIndex);
+                if (!isChunkInView(chunkX, chunkZ)) {
+                    // Already unloaded on the client, would be sent again when back in view
+                    droppedChunkCount++;
+                    continue;
+                }
                 var chunk = instance.getChunk(chunkX, chunkZ);
                 if (chunk == null || !chunk.isLoaded()) continue;
 
@@ -793,6 +933,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
                 pendingChunkCount -= 1f;
                 batchSize += 1;
+                sentChunkCount++;
             }
             sendPacket(new ChunkBatchFinishedPacket(batchSize));
             chunkBatchLead += 1;
@@ -2289,9 +2430,10 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
             final int newZ = newChunk.getChunkZ();
             final Vec old = chunksLoadedByClient;
             sendPacket(new UpdateViewPositionPacket(newX, newZ));
+            // Updated first, chunks are only queued when in view
+            this.chunksLoadedByClient = new Vec(newX, newZ);
             ChunkRange.chunksInRangeDiffering(newX, newZ, (int) old.x(), (int) old.z(),
                     settings.effectiveViewDistance(), chunkAdder, chunkRemover);
-            this.chunksLoadedByClient = new Vec(newX, newZ);
         }
     }
 
@@ -2301,6 +2443,10 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     @Override
     public @NotNull CompletableFuture<Void> teleport(@NotNull Pos position, long @Nullable [] chunks, int flags) {
         chunkUpdateLimitChecker.clearHistory();
+        // A teleport is not a movement to predict
+        this.lastStreamPosition = null;
+        this.streamVelocityX = 0;
+        this.streamVelocityZ = 0;
         return super.teleport(position, chunks, flags);
     }
 
@@ -2321,14 +2467,22 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
     // Settings enum
 
-    private int compareChunkDistance(long chunkIndexA, long chunkIndexB) {
-        int chunkAX = CoordConversion.chunkIndexGetX(chunkIndexA);
-        int chunkAZ = CoordConversion.chunkIndexGetZ(chunkIndexA);
-        int chunkBX = CoordConversion.chunkIndexGetX(chunkIndexB);
-        int chunkBZ = CoordConversion.chunkIndexGetZ(chunkIndexB);
-        int chunkDistanceA = Math.abs(chunkAX - chunksLoadedByClient.blockX()) + Math.abs(chunkAZ - chunksLoadedByClient.blockZ());
-        int chunkDistanceB = Math.abs(chunkBX - chunksLoadedByClient.blockX()) + Math.abs(chunkBZ - chunksLoadedByClient.blockZ());
-        return Integer.compare(chunkDistanceA, chunkDistanceB);
+    private int compareChunkPriority(long chunkIndexA, long chunkIndexB) {
+        return Double.compare(chunkPriority(chunkIndexA), chunkPriority(chunkIndexB));
+    }
+
+    /**
+     * Distance of the chunk to the player, shortened in front of the player and lengthened behind.
+     * The queue scans all chunks on dequeue, so priorities follow the player without reordering.
+     */
+    private double chunkPriority(long chunkIndex) {
+        final double deltaX = CoordConversion.chunkIndexGetX(chunkIndex) + 0.5 - streamOriginX;
+        final double deltaZ = CoordConversion.chunkIndexGetZ(chunkIndex) + 0.5 - streamOriginZ;
+        final double distance = Math.sqrt(deltaX * deltaX + deltaZ * deltaZ);
+        // Chunks around the player come first whatever the direction
+        if (distance <= 1) return distance;
+        final double alignment = (deltaX * streamDirectionX + deltaZ * streamDirectionZ) / distance;
+        return distance * (1 - STREAM_DIRECTION_WEIGHT * alignment);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,291 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Distances to a single target, shared by all the {@link Navigator navigators} heading to it.
+ * <p>
+ * The field is expanded once from the target with a {@link NodeGenerator}, every reachable cell keeps the step
+ * leading towards the target. Following the field is a walk along these steps, whatever the number of entities.
+ * <p>
+ * Moving the target inside its region keeps the field, a target leaving it recomputes the field.
+ * Block changes only recompute the cells of the changed chunks, and the cells whose steps went through them.
+ * <p>
+ * The field is refreshed at most once per tick, by the first navigator following it.
+ */
+public final class FlowField {
+    private static final int MAX_CELLS = 1 << 16;
+
+    private final Instance instance;
+    private final NodeGenerator generator;
+    private final BoundingBox boundingBox;
+    private final double maxDistance;
+    private final double regionRadius;
+
+    private Point requestedTarget;
+    private Point target;
+    // Block key -> cell, its parent being the next step towards the target
+    private final Long2ObjectOpenHashMap<PNode> cells = new Long2ObjectOpenHashMap<>();
+    // Chunk index -> block change version when the cells were computed
+    private final Long2IntMap chunkVersions = new Long2IntOpenHashMap();
+
+    private long lastRefresh = -1;
+    private int version;
+
+    /**
+     * Creates a flow field, computed during the first refresh.
+     *
+     * @param instance     the instance of the field
+     * @param target       the target of the entities
+     * @param maxDistance  the maximum distance from the target of the cells
+     * @param regionRadius the distance the target can move before the field is recomputed
+     * @param boundingBox  the bounding box of the entities following the field
+     * @param generator    the generator of the cells, used only by this field
+     */
+    public FlowField(@NotNull Instance instance, @NotNull Point target, double maxDistance, double regionRadius,
+                     @NotNull BoundingBox boundingBox, @NotNull NodeGenerator generator) {
+        this.instance = instance;
+        this.requestedTarget = target;
+        this.maxDistance = maxDistance;
+        this.regionRadius = regionRadius;
+        this.boundingBox = boundingBox;
+        this.generator = generator;
+    }
+
+    /**
+     * Moves the target, the field is recomputed during the next refresh if it left its region.
+     *
+     * @param target the new target
+     */
+    public synchronized void setTarget(@NotNull Point target) {
+        this.requestedTarget = target;
+    }
+
+    /**
+     * Gets the target the field currently leads to.
+     *
+     * @return the target snapped to the ground, null if the field has never been computed
+     */
+    public synchronized @Nullable Point getTarget() {
+        return target;
+    }
+
+    /**
+     * Updates the field with the target and the blocks changed since the last refresh.
+     * <p>
+     * Does nothing if the field has already been refreshed during the current tick.
+     */
+    public synchronized void refresh() {
+        final long worldAge = instance.getWorldAge();
+        if (worldAge == lastRefresh) return;
+        this.lastRefresh = worldAge;
+
+        if (target == null || requestedTarget.distanceSquared(target) > regionRadius * regionRadius) {
+            compute();
+        } else {
+            repair();
+        }
+    }
+
+    /**
+     * Gets the distance to the target along the field.
+     *
+     * @param point the position
+     * @return the distance, -1 if the target cannot be reached from {@code point}
+     */
+    public synchronized double distance(@NotNull Point point) {
+        final PNode cell = cellAt(point);
+        return cell != null ? cell.g() : -1;
+    }
+
+    /**
+     * Gets the number of cells from which the target can be reached.
+     *
+     * @return the number of cells
+     */
+    public synchronized int size() {
+        return cells.size();
+    }
+
+    synchronized int version() {
+        return version;
+    }
+
+    /**
+     * Builds the path from a position to the target.
+     *
+     * @return the computed path, null if the position is not part of the field
+     */
+    synchronized @Nullable PPath path(@NotNull Point start, @Nullable Runnable onComplete) {
+        PNode current = cellAt(start);
+        if (current == null) return null;
+        PPath path = new PPath(maxDistance, 0, onComplete);
+        for (PNode next = current.parent(); next != null; next = next.parent()) {
+            final double climb = next.y() - current.y();
+            final PNode.Type type = climb > Vec.EPSILON ? PNode.Type.JUMP :
+                    climb < -Vec.EPSILON ? PNode.Type.FALL : PNode.Type.WALK;
+            path.getNodes().add(new PNode(next.x(), next.y(), next.z(), 0, 0, type, null));
+            current = next;
+        }
+        // Already in the target cell, walk to the target itself
+        if (path.getNodes().isEmpty()) path.getNodes().add(new PNode(target, 0, 0, PNode.Type.WALK, null));
+        path.setState(PPath.State.COMPUTED);
+        return path;
+    }
+
+    private void compute() {
+        this.cells.clear();
+        this.chunkVersions.clear();
+        this.version++;
+
+        final Block.Getter getter = new ChunkCache(instance, null, Block.STONE);
+        final Point requested = requestedTarget;
+        this.target = generator.hasGravitySnap()
+                ? requested.withY(generator.gravitySnap(getter, requested.x(), requested.y(), requested.z(), boundingBox, 100).orElse(requested.y()))
+                : Pos.fromPoint(requested);
+
+        // Cells are never further than the max distance from the target, plus their neighbours
+        final int range = (int) Math.ceil((maxDistance + 1) / Chunk.CHUNK_SIZE_X);
+        final int targetChunkX = target.chunkX(), targetChunkZ = target.chunkZ();
+        for (int x = targetChunkX - range; x <= targetChunkX + range; x++) {
+            for (int z = targetChunkZ - range; z <= targetChunkZ + range; z++) {
+                chunkVersions.put(CoordConversion.chunkIndex(x, z), chunkVersion(x, z));
+            }
+        }
+
+        final PNode root = new PNode(target, 0, 0, PNode.Type.WALK, null);
+        this.cells.put(key(root), root);
+        expand(getter, List.of(root));
+    }
+
+    private void repair() {
+        LongSet changedChunks = new LongOpenHashSet();
+        for (Long2IntMap.Entry entry : chunkVersions.long2IntEntrySet()) {
+            final long index = entry.getLongKey();
+            final int chunkVersion = chunkVersion(CoordConversion.chunkIndexGetX(index), CoordConversion.chunkIndexGetZ(index));
+            if (chunkVersion == entry.getIntValue()) continue;
+            entry.setValue(chunkVersion);
+            changedChunks.add(index);
+        }
+        if (changedChunks.isEmpty()) return;
+        this.version++;
+
+        // Parents are closer to the target than their children, so they are invalidated first
+        List<PNode> sorted = new ArrayList<>(cells.values());
+        sorted.sort(Comparator.comparingDouble(PNode::g));
+        LongSet invalid = new LongOpenHashSet();
+        for (PNode cell : sorted) {
+            if (cell.parent() == null) continue; // The target stays
+            if (nearChunks(cell, changedChunks) || invalid.contains(key(cell.parent()))) {
+                invalid.add(key(cell));
+            }
+        }
+        if (invalid.isEmpty()) return;
+        for (long key : invalid) cells.remove(key);
+
+        // Expand again from the remaining cells bordering the removed ones
+        List<PNode> frontier = new ArrayList<>();
+        for (PNode cell : cells.values()) {
+            if (bordersAny(cell, invalid)) frontier.add(cell);
+        }
+        expand(new ChunkCache(instance, null, Block.STONE), frontier);
+    }
+
+    private void expand(Block.Getter getter, List<PNode> seeds) {
+        final Point target = this.target;
+        final double maxDistanceSquared = maxDistance * maxDistance;
+        final PathSearch search = PathSearch.acquire();
+        try {
+            final Set<PNode> visited = search.closed;
+            visited.addAll(cells.values());
+            for (PNode seed : seeds) search.enqueue(seed);
+
+            while (!search.isEmpty() && cells.size() < MAX_CELLS) {
+                final PNode current = search.dequeue();
+                for (PNode node : generator.getWalkable(getter, visited, current, target, boundingBox)) {
+                    if (!reversible(current, node)) continue;
+                    if (target.distanceSquared(node.x(), node.y(), node.z()) > maxDistanceSquared) continue;
+                    if (!visited.add(node)) continue;
+                    // Expanded by distance to the target only
+                    node.setH(0);
+                    cells.put(key(node), node);
+                    search.enqueue(node);
+                }
+            }
+        } finally {
+            search.release();
+        }
+    }
+
+    private @Nullable PNode cellAt(Point point) {
+        final int x = point.blockX(), y = point.blockY(), z = point.blockZ();
+        PNode cell = cells.get(PathSearch.blockKey(x, y, z));
+        if (cell == null) cell = cells.get(PathSearch.blockKey(x, y + 1, z));
+        if (cell == null) cell = cells.get(PathSearch.blockKey(x, y - 1, z));
+        return cell;
+    }
+
+    private int chunkVersion(int chunkX, int chunkZ) {
+        final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+        return chunk != null && chunk.isLoaded() ? chunk.getBlockChangeVersion() : -1;
+    }
+
+    /**
+     * Entities follow the steps backwards, a step dropping further than a jump cannot be climbed back.
+     */
+    private static boolean reversible(PNode from, PNode to) {
+        return from.y() - to.y() <= 1 + Vec.EPSILON;
+    }
+
+    private static boolean nearChunks(PNode cell, LongSet chunks) {
+        // Steps cross chunk borders, blocks of the neighbour chunk affect the cell
+        final int x = cell.blockX(), z = cell.blockZ();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (chunks.contains(CoordConversion.chunkIndex(
+                        CoordConversion.globalToChunk(x + dx), CoordConversion.globalToChunk(z + dz)))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean bordersAny(PNode cell, LongSet keys) {
+        final int step = (int) Math.max(Math.floor(boundingBox.width() / 2), 1);
+        final int x = cell.blockX(), y = cell.blockY(), z = cell.blockZ();
+        for (int dx = -step; dx <= step; dx++) {
+            for (int dz = -step; dz <= step; dz++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (keys.contains(PathSearch.blockKey(x + dx, y + dy, z + dz))) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long key(PNode node) {
+        return PathSearch.blockKey(node.blockX(), node.blockY(), node.blockZ());
+    }
+}
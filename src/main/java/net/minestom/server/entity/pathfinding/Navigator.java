@@ -1,5 +1,6 @@
 package net.minestom.server.entity.pathfinding;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
@@ -37,6 +38,11 @@ public final class Navigator {
 
     NodeGenerator nodeGenerator = new GroundNodeGenerator();
     private NodeFollower nodeFollower;
+    private PathfindingService pathfindingService = PathfindingService.DEFAULT;
+
+    private FlowField flowField;
+    private int flowFieldVersion;
+    private Runnable flowFieldComplete;
 
     public Navigator(@NotNull Entity entity) {
         this.entity = entity;
@@ -71,6 +77,7 @@ public final class Navigator {
      */
     public synchronized boolean setPathTo(@Nullable Point point, double minimumDistance, double maxDistance, double pathVariance, @Nullable Runnable onComplete) {
         final Instance instance = entity.getInstance();
+        this.flowField = null;
         if (point == null) {
             this.path = null;
             return false;
@@ -106,25 +113,44 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
 
-        this.computingPath = PathGenerator.generate(instance,
-                this.entity.getPosition(),
-                point,
-                minimumDistance, maxDistance,
-                pathVariance,
-                this.entity.getBoundingBox(),
-                this.entity.isOnGround(),
-                this.nodeGenerator,
-                onComplete);
+        this.computingPath = generate(instance, point, minimumDistance, maxDistance, pathVariance, onComplete);
 
         this.goalPosition = point;
         return true;
     }
 
+    /**
+     * Follows a flow field shared with other entities, instead of computing a path for this entity only.
+     * <p>
+     * The path is taken from the field again whenever the field changes.
+     *
+     * @param flowField  the field to follow, in the instance of the entity
+     * @param onComplete called when the target of the field has been reached
+     * @return true if the entity can reach the target of the field
+     */
+    public synchronized boolean setPathTo(@NotNull FlowField flowField, @Nullable Runnable onComplete) {
+        flowField.refresh();
+        final Point target = flowField.getTarget();
+        final PPath fieldPath = flowField.path(entity.getPosition(), onComplete);
+        if (target == null || fieldPath == null) return false;
+
+        BoundingBox bb = this.entity.getBoundingBox();
+        this.minimumDistance = Math.sqrt(bb.width() * bb.width() + bb.depth() * bb.depth()) / 2;
+        if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
+        this.computingPath = fieldPath;
+        this.goalPosition = target;
+        this.flowField = flowField;
+        this.flowFieldVersion = flowField.version();
+        this.flowFieldComplete = onComplete;
+        return true;
+    }
+
     @ApiStatus.Internal
     public synchronized void tick() {
         if (goalPosition == null) return; // No path
         if (entity instanceof LivingEntity && ((LivingEntity) entity).isDead())
             return; // No pathfinding tick for dead entities
+        if (flowField != null) tickFlowField();
         if (computingPath != null && (computingPath.getState() == PPath.State.COMPUTED || computingPath.getState() == PPath.State.BEST_EFFORT)) {
             path = computingPath;
             computingPath = null;
@@ -162,11 +188,14 @@ public final class Navigator {
         if (currentTarget == null || path.getCurrentType() == PNode.Type.REPATH || path.getCurrentType() == null) {
             if (computingPath != null && computingPath.getState() == PPath.State.CALCULATING) return;
 
-            computingPath = PathGenerator.generate(entity.getInstance(),
-                    entity.getPosition(),
-                    Pos.fromPoint(goalPosition),
-                    minimumDistance, path.maxDistance(),
-                    path.pathVariance(), entity.getBoundingBox(), this.entity.isOnGround(), nodeGenerator, null);
+            if (flowField != null) {
+                computingPath = flowField.path(entity.getPosition(), flowFieldComplete);
+                if (computingPath == null) path.setState(PPath.State.INVALID);
+                return;
+            }
+
+            computingPath = generate(entity.getInstance(), Pos.fromPoint(goalPosition),
+                    minimumDistance, path.maxDistance(), path.pathVariance(), null);
 
             return;
         }
@@ -183,6 +212,34 @@ public final class Navigator {
         else if (path.getCurrentType() == PNode.Type.JUMP) nodeFollower.jump(currentTarget, nextTarget);
     }
 
+    private void tickFlowField() {
+        final FlowField flowField = this.flowField;
+        flowField.refresh();
+        final int version = flowField.version();
+        if (version == flowFieldVersion) return;
+        // The field changed, take the new path from the current position
+        this.flowFieldVersion = version;
+        final Point target = flowField.getTarget();
+        if (target != null) this.goalPosition = target;
+        final PPath fieldPath = flowField.path(entity.getPosition(), flowFieldComplete);
+        if (fieldPath != null) {
+            this.computingPath = fieldPath;
+        } else if (path != null) {
+            path.setState(PPath.State.INVALID);
+        }
+    }
+
+    private PPath generate(Instance instance, Point target, double minimumDistance, double maxDistance,
+                           double pathVariance, @Nullable Runnable onComplete) {
+        final PathfindingService service = this.pathfindingService;
+        if (service != null) {
+            return service.submit(instance, entity.getPosition(), target, minimumDistance, maxDistance, pathVariance,
+                    entity.getBoundingBox(), entity.isOnGround(), nodeGenerator, onComplete);
+        }
+        return PathGenerator.generate(instance, entity.getPosition(), target, minimumDistance, maxDistance, pathVariance,
+                entity.getBoundingBox(), entity.isOnGround(), nodeGenerator, onComplete);
+    }
+
     /**
      * Gets the target pathfinder position.
      *
@@ -205,6 +262,8 @@ public final class Navigator {
         if (this.path != null) this.path.setState(PPath.State.TERMINATING);
         this.goalPosition = null;
         this.path = null;
+        this.flowField = null;
+        this.flowFieldComplete = null;
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
         this.computingPath = null;
@@ -233,6 +292,16 @@ public final class Navigator {
         this.nodeGenerator = nodeGenerator.get();
     }
 
+    /**
+     * Changes the service computing the paths off the tick, defaults to a shared service when
+     * {@link ServerFlag#PATHFINDING_THREADS} is positive.
+     *
+     * @param pathfindingService the service, null to compute paths inline during the entity tick
+     */
+    public void setPathfindingService(@Nullable PathfindingService pathfindingService) {
+        this.pathfindingService = pathfindingService;
+    }
+
     /**
      * Visualise path for debugging
      *
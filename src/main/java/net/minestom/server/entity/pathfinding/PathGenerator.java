@@ -1,7 +1,5 @@
 package net.minestom.server.entity.pathfinding;
 
-import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashBigSet;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
@@ -13,12 +11,21 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
 public final class PathGenerator {
-    private static final Comparator<PNode> pNodeComparator = (s1, s2) -> (int) (((s1.g() + s1.h()) - (s2.g() + s2.h())) * 1000);
-
     public static @NotNull PPath generate(Block.@NotNull Getter getter, @NotNull Pos orgStart, @NotNull Point orgTarget,
                                           double closeDistance, double maxDistance, double pathVariance,
                                           @NotNull BoundingBox boundingBox, boolean isOnGround, @NotNull NodeGenerator generator,
                                           @Nullable Runnable onComplete) {
+        PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        compute(getter, path, orgStart, orgTarget, closeDistance, boundingBox, isOnGround, generator);
+        return path;
+    }
+
+    /**
+     * Computes {@code path}, using its maximum distance and variance.
+     */
+    static void compute(Block.@NotNull Getter getter, @NotNull PPath path, @NotNull Pos orgStart, @NotNull Point orgTarget,
+                        double closeDistance, @NotNull BoundingBox boundingBox, boolean isOnGround,
+                        @NotNull NodeGenerator generator) {
         final Point start = (!isOnGround && generator.hasGravitySnap())
                 ? orgStart.withY(generator.gravitySnap(getter, orgStart.x(), orgStart.y(), orgStart.z(), boundingBox, 100).orElse(orgStart.y()))
                 : orgStart;
@@ -27,9 +34,7 @@ public final class PathGenerator {
                 ? orgTarget.withY(generator.gravitySnap(getter, orgTarget.x(), orgTarget.y(), orgTarget.z(), boundingBox, 100).orElse(orgTarget.y()))
                 : Pos.fromPoint(orgTarget);
 
-        PPath path = new PPath(maxDistance, pathVariance, onComplete);
-        computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
-        return path;
+        computePath(getter, start, target, closeDistance, path.maxDistance(), path.pathVariance(), boundingBox, path, generator);
     }
 
     private static PNode buildRepathNode(PNode parent) {
@@ -39,19 +44,30 @@ public final class PathGenerator {
     private static void computePath(Block.Getter getter, Point start, Point target,
                                     double closeDistance, double maxDistance, double pathVariance,
                                     BoundingBox boundingBox, PPath path, NodeGenerator generator) {
-        double closestDistance = Double.MAX_VALUE;
         double straightDistance = generator.heuristic(start, target);
         int maxSize = (int) Math.floor(maxDistance * 10);
 
         closeDistance = Math.max(0.8, closeDistance);
-        List<PNode> closestFoundNodes = List.of();
 
         PNode pStart = new PNode(start, 0, generator.heuristic(start, target), PNode.Type.WALK, null);
 
-        ObjectHeapPriorityQueue<PNode> open = new ObjectHeapPriorityQueue<>(pNodeComparator);
-        open.enqueue(pStart);
+        final PathSearch open = PathSearch.acquire();
+        try {
+            open.enqueue(pStart);
+            computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator,
+                    open, straightDistance, maxSize);
+        } finally {
+            open.release();
+        }
+    }
 
-        Set<PNode> closed = new ObjectOpenHashBigSet<>(maxSize);
+    private static void computePath(Block.Getter getter, Point start, Point target,
+                                    double closeDistance, double maxDistance, double pathVariance,
+                                    BoundingBox boundingBox, PPath path, NodeGenerator generator,
+                                    PathSearch open, double straightDistance, int maxSize) {
+        double closestDistance = Double.MAX_VALUE;
+        List<PNode> closestFoundNodes = List.of();
+        final Set<PNode> closed = open.closed;
 
         while (!open.isEmpty() && closed.size() < maxSize) {
             if (path.getState() == PPath.State.TERMINATING) {
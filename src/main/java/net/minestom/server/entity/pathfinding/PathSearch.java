@@ -0,0 +1,139 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Open and closed sets of an A* search, reused by all the searches of a thread.
+ * <p>
+ * The closed set is keyed by packed block positions, the open set is a binary heap over primitive scores.
+ */
+final class PathSearch {
+    private static final ThreadLocal<PathSearch> SEARCHES = ThreadLocal.withInitial(PathSearch::new);
+
+    final Closed closed = new Closed();
+
+    private PNode[] heapNodes = new PNode[64];
+    private double[] heapScores = new double[64];
+    private int heapSize;
+
+    private boolean inUse;
+
+    private PathSearch() {
+    }
+
+    /**
+     * Gets the search context of the current thread, must be released with {@link #release()}.
+     */
+    static @NotNull PathSearch acquire() {
+        PathSearch search = SEARCHES.get();
+        // A generator starting a search during another one gets its own context
+        if (search.inUse) search = new PathSearch();
+        search.inUse = true;
+        return search;
+    }
+
+    /**
+     * Clears the search, so that its nodes can be collected.
+     */
+    void release() {
+        Arrays.fill(heapNodes, 0, heapSize, null);
+        this.heapSize = 0;
+        this.closed.clear();
+        this.inUse = false;
+    }
+
+    boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    void enqueue(@NotNull PNode node) {
+        final double score = node.g() + node.h();
+        int index = heapSize++;
+        if (index == heapNodes.length) {
+            this.heapNodes = Arrays.copyOf(heapNodes, index * 2);
+            this.heapScores = Arrays.copyOf(heapScores, index * 2);
+        }
+        // Sift up
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heapScores[parent] <= score) break;
+            heapNodes[index] = heapNodes[parent];
+            heapScores[index] = heapScores[parent];
+            index = parent;
+        }
+        heapNodes[index] = node;
+        heapScores[index] = score;
+    }
+
+    @NotNull PNode dequeue() {
+        final PNode result = heapNodes[0];
+        final int last = --heapSize;
+        final PNode node = heapNodes[last];
+        final double score = heapScores[last];
+        heapNodes[last] = null;
+        if (last > 0) {
+            // Sift down
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= last) break;
+                if (child + 1 < last && heapScores[child + 1] < heapScores[child]) child++;
+                if (score <= heapScores[child]) break;
+                heapNodes[index] = heapNodes[child];
+                heapScores[index] = heapScores[child];
+                index = child;
+            }
+            heapNodes[index] = node;
+            heapScores[index] = score;
+        }
+        return result;
+    }
+
+    static long blockKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    /**
+     * Visited nodes, compared by block position.
+     */
+    static final class Closed extends AbstractSet<PNode> {
+        private final LongOpenHashSet keys = new LongOpenHashSet();
+        private final List<PNode> nodes = new ArrayList<>();
+
+        @Override
+        public boolean add(PNode node) {
+            if (!keys.add(blockKey(node.blockX(), node.blockY(), node.blockZ()))) return false;
+            this.nodes.add(node);
+            return true;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof PNode node && keys.contains(blockKey(node.blockX(), node.blockY(), node.blockZ()));
+        }
+
+        @Override
+        public @NotNull Iterator<PNode> iterator() {
+            return Collections.unmodifiableList(nodes).iterator();
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+
+        @Override
+        public void clear() {
+            this.keys.clear();
+            this.nodes.clear();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable block states of the chunks a path search may visit, safe to read from any thread.
+ * <p>
+ * Only block states are kept, handlers and nbt are not part of the snapshot.
+ * Blocks in chunks outside the snapshot are considered solid.
+ */
+final class PathSnapshot implements Block.Getter {
+    private final Long2ObjectMap<ChunkBlocks> chunks;
+
+    private PathSnapshot(Long2ObjectMap<ChunkBlocks> chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Snapshots the loaded chunks in {@code range} around a chunk.
+     *
+     * @param cache the chunk copies still valid, refreshed with new copies
+     */
+    static @NotNull PathSnapshot of(@NotNull Instance instance, int chunkX, int chunkZ, int range,
+                                    @NotNull Map<Chunk, ChunkBlocks> cache) {
+        Long2ObjectMap<ChunkBlocks> chunks = new Long2ObjectOpenHashMap<>();
+        for (int x = chunkX - range; x <= chunkX + range; x++) {
+            for (int z = chunkZ - range; z <= chunkZ + range; z++) {
+                final Chunk chunk = instance.getChunk(x, z);
+                if (chunk == null || !chunk.isLoaded()) continue;
+                chunks.put(CoordConversion.chunkIndex(x, z), blocks(chunk, cache));
+            }
+        }
+        return new PathSnapshot(chunks);
+    }
+
+    private static ChunkBlocks blocks(Chunk chunk, Map<Chunk, ChunkBlocks> cache) {
+        synchronized (chunk) {
+            final int version = chunk.getBlockChangeVersion();
+            ChunkBlocks blocks = cache.get(chunk);
+            if (blocks != null && blocks.version() == version) return blocks;
+            final List<Section> sections = chunk.getSections();
+            Palette[] palettes = new Palette[sections.size()];
+            for (int i = 0; i < palettes.length; i++) palettes[i] = sections.get(i).blockPalette().clone();
+            blocks = new ChunkBlocks(version, chunk.getMinSection(), palettes);
+            cache.put(chunk, blocks);
+            return blocks;
+        }
+    }
+
+    @Override
+    public @UnknownNullability Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        final ChunkBlocks blocks = chunks.get(CoordConversion.chunkIndex(
+                CoordConversion.globalToChunk(x), CoordConversion.globalToChunk(z)));
+        if (blocks == null) return condition == Condition.CACHED ? null : Block.STONE;
+        if (condition == Condition.CACHED) return null; // No block object is cached
+        return blocks.getBlock(x, y, z);
+    }
+
+    record ChunkBlocks(int version, int minSection, Palette[] palettes) {
+        Block getBlock(int x, int y, int z) {
+            final int sectionIndex = CoordConversion.globalToChunk(y) - minSection;
+            if (sectionIndex < 0 || sectionIndex >= palettes.length) return Block.AIR; // Out of bounds
+            final int stateId = palettes[sectionIndex].get(CoordConversion.globalToSectionRelative(x),
+                    CoordConversion.globalToSectionRelative(y), CoordConversion.globalToSectionRelative(z));
+            final Block block = Block.fromStateId(stateId);
+            return block != null ? block : Block.AIR;
+        }
+    }
+}
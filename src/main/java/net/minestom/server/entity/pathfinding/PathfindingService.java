@@ -0,0 +1,142 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Computes paths on a bounded pool of worker threads, outside of the tick.
+ * <p>
+ * Searches run against an immutable snapshot of the chunks around the entity, taken when the path is requested.
+ * Chunk snapshots are shared between searches until a block of the chunk changes.
+ * <p>
+ * The returned {@link PPath} is in the {@link PPath.State#CALCULATING} state until the search completes,
+ * and is picked up by {@link Navigator#tick()} on the thread ticking the entity.
+ * Setting it to {@link PPath.State#TERMINATING} cancels the search.
+ * <p>
+ * Workers stop starting new searches once the time spent searching during the current tick exceeds the budget,
+ * a search already started always runs until completion.
+ */
+public final class PathfindingService {
+    private static final AtomicInteger SERVICE_COUNTER = new AtomicInteger();
+
+    static final @Nullable PathfindingService DEFAULT = ServerFlag.PATHFINDING_THREADS > 0 ?
+            new PathfindingService(ServerFlag.PATHFINDING_THREADS, TimeUnit.MILLISECONDS.toNanos(ServerFlag.PATHFINDING_TICK_BUDGET)) :
+            null;
+
+    private final ExecutorService workers;
+    private final long tickBudgetNanos;
+    private final long tickNanos = TimeUnit.SECONDS.toNanos(1) / ServerFlag.SERVER_TICKS_PER_SECOND;
+    // Chunk -> block states snapshot, replaced when the chunk changes
+    private final Map<Chunk, PathSnapshot.ChunkBlocks> chunkCache = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Object budgetLock = new Object();
+    private long budgetWindow;
+    private long budgetSpent;
+
+    /**
+     * Creates a new pathfinding service.
+     *
+     * @param threads         the number of worker threads
+     * @param tickBudgetNanos the time the workers can spend searching per tick, 0 or less for no limit
+     */
+    public PathfindingService(int threads, long tickBudgetNanos) {
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive");
+        this.tickBudgetNanos = tickBudgetNanos;
+        this.workers = Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon()
+                .name("Ms-Pathfinding-" + SERVICE_COUNTER.getAndIncrement() + "-", 0).factory());
+    }
+
+    /**
+     * Requests a path, see {@link PathGenerator#generate}.
+     * <p>
+     * The chunks around {@code start} are snapshot by the calling thread.
+     *
+     * @return the path being computed
+     */
+    public @NotNull PPath submit(@NotNull Instance instance, @NotNull Pos start, @NotNull Point target,
+                                 double closeDistance, double maxDistance, double pathVariance,
+                                 @NotNull BoundingBox boundingBox, boolean isOnGround, @NotNull NodeGenerator generator,
+                                 @Nullable Runnable onComplete) {
+        PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        // Nodes are never further than the max distance from the start, plus their neighbours
+        final int range = (int) Math.ceil((maxDistance + 1) / Chunk.CHUNK_SIZE_X);
+        final PathSnapshot snapshot = PathSnapshot.of(instance, start.chunkX(), start.chunkZ(), range, chunkCache);
+        this.workers.execute(() -> search(snapshot, path, start, target, closeDistance, boundingBox, isOnGround, generator));
+        return path;
+    }
+
+    /**
+     * Stops the worker threads, searches not yet started are abandoned.
+     */
+    public void shutdown() {
+        this.workers.shutdownNow();
+    }
+
+    private void search(PathSnapshot snapshot, PPath path, Pos start, Point target, double closeDistance,
+                        BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator) {
+        if (path.getState() == PPath.State.TERMINATING) {
+            path.setState(PPath.State.TERMINATED);
+            return;
+        }
+        awaitBudget();
+        final long startTime = System.nanoTime();
+        try {
+            // Generators keep state during a search, a new request can be computed while the previous one terminates
+            synchronized (generator) {
+                PathGenerator.compute(snapshot, path, start, target, closeDistance, boundingBox, isOnGround, generator);
+            }
+        } catch (Throwable e) {
+            path.setState(PPath.State.INVALID);
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            spend(System.nanoTime() - startTime);
+        }
+    }
+
+    private void awaitBudget() {
+        if (tickBudgetNanos <= 0) return;
+        while (true) {
+            final long now = System.nanoTime();
+            final long window = Math.floorDiv(now, tickNanos);
+            synchronized (budgetLock) {
+                if (window != budgetWindow) {
+                    this.budgetWindow = window;
+                    this.budgetSpent = 0;
+                }
+                if (budgetSpent < tickBudgetNanos) return;
+            }
+            // Wait for the next tick
+            LockSupport.parkNanos((window + 1) * tickNanos - now);
+            if (Thread.interrupted()) return;
+        }
+    }
+
+    private void spend(long nanos) {
+        if (tickBudgetNanos <= 0) return;
+        final long window = Math.floorDiv(System.nanoTime(), tickNanos);
+        synchronized (budgetLock) {
+            if (window != budgetWindow) {
+                this.budgetWindow = window;
+                this.budgetSpent = 0;
+            }
+            this.budgetSpent += nanos;
+        }
+    }
+}
@@ -325,6 +325,8 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         private final Class<E> eventType;
         private Consumer<E> listener = null;
         private volatile boolean updated;
+        // Dispatch mode of the next created consumer, only changed by tests
+        boolean flattened = ServerFlag.EVENT_NODE_FLATTENED_DISPATCH;
 
         Handle(Class<E> eventType) {
             this.eventType = eventType;
@@ -363,6 +365,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
 
         private @Nullable Consumer<E> createConsumer() {
+            if (flattened) return flattenedConsumer();
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
             // Standalone listeners
             List<Consumer<E>> listeners = new ArrayList<>();
@@ -417,6 +420,45 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             };
         }
 
+        /**
+         * Create a consumer calling the listeners of the whole node tree, flattened into a single array.
+         * <p>
+         * Each node predicate is checked once and skips its whole subtree when failing,
+         * avoiding the nested consumers of {@link #createConsumer()}.
+         */
+        private @Nullable Consumer<E> flattenedConsumer() {
+            FlattenedConsumer.Builder<E> builder = new FlattenedConsumer.Builder<>();
+            flatten((EventNodeImpl<E>) EventNodeImpl.this, builder);
+            return builder.build();
+        }
+
+        private void flatten(@NotNull EventNodeImpl<E> node, @NotNull FlattenedConsumer.Builder<E> builder) {
+            final BiPredicate<E, Object> predicate = node.predicate;
+            final int filterIndex = predicate != null ? builder.filter(node.filter, predicate) : -1;
+            final int start = builder.size();
+            // Standalone listeners
+            final Handle<E> handle = (Handle<E>) node.getHandle(eventType);
+            forTargetEvents(eventType, type -> {
+                final ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) {
+                    builder.consumer(e -> handle.callListener(listener, e));
+                }
+                for (Consumer<E> binding : entry.bindingConsumers) {
+                    builder.consumer(binding);
+                }
+            });
+            // Mapped
+            final Consumer<E> mappedListener = handle.mappedConsumer();
+            if (mappedListener != null) builder.consumer(mappedListener);
+            // Children
+            node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .forEach(child -> flatten((EventNodeImpl<E>) child, builder));
+            if (filterIndex != -1) builder.endFilter(filterIndex, start);
+        }
+
         /**
          * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
@@ -0,0 +1,107 @@
+package net.minestom.server.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Calls the listeners of a whole node tree, stored in a single linear array.
+ * <p>
+ * Node predicates are stored in the same array, and jump after their node subtree when failing.
+ *
+ * @see net.minestom.server.ServerFlag#EVENT_NODE_FLATTENED_DISPATCH
+ */
+final class FlattenedConsumer<E extends Event> implements Consumer<E> {
+    // Filter entry if non-null, skipping to the jump index when failing
+    private final EventFilter<E, ?>[] filters;
+    private final BiPredicate<E, Object>[] predicates;
+    private final int[] jumps;
+    // Listener entry otherwise
+    private final Consumer<E>[] consumers;
+
+    private FlattenedConsumer(EventFilter<E, ?>[] filters, BiPredicate<E, Object>[] predicates,
+                              int[] jumps, Consumer<E>[] consumers) {
+        this.filters = filters;
+        this.predicates = predicates;
+        this.jumps = jumps;
+        this.consumers = consumers;
+    }
+
+    @Override
+    public void accept(E event) {
+        final EventFilter<E, ?>[] filters = this.filters;
+        final Consumer<E>[] consumers = this.consumers;
+        int i = 0;
+        while (i < consumers.length) {
+            final EventFilter<E, ?> filter = filters[i];
+            if (filter == null) {
+                consumers[i++].accept(event);
+            } else if (predicates[i].test(event, filter.getHandler(event))) {
+                i++;
+            } else {
+                i = jumps[i];
+            }
+        }
+    }
+
+    static final class Builder<E extends Event> {
+        private final List<EventFilter<E, ?>> filters = new ArrayList<>();
+        private final List<BiPredicate<E, Object>> predicates = new ArrayList<>();
+        private final List<Consumer<E>> consumers = new ArrayList<>();
+        private int[] jumps = new int[8];
+
+        int size() {
+            return consumers.size();
+        }
+
+        int filter(@NotNull EventFilter<E, ?> filter, @NotNull BiPredicate<E, Object> predicate) {
+            return add(filter, predicate, null);
+        }
+
+        void consumer(@NotNull Consumer<E> consumer) {
+            add(null, null, consumer);
+        }
+
+        /**
+         * Ends the subtree of a filter, removing the filter if the subtree is empty.
+         *
+         * @param filterIndex the filter index
+         * @param start       the index of the first entry after the filter
+         */
+        void endFilter(int filterIndex, int start) {
+            final int size = size();
+            if (size == start) {
+                filters.removeLast();
+                predicates.removeLast();
+                consumers.removeLast();
+            } else {
+                jumps[filterIndex] = size;
+            }
+        }
+
+        @Nullable Consumer<E> build() {
+            // Filters without any listener have been removed
+            if (consumers.isEmpty()) return null;
+            final int size = size();
+            if (size == 1) return consumers.getFirst();
+            return new FlattenedConsumer<>(filters.toArray(EventFilter[]::new),
+                    predicates.toArray(BiPredicate[]::new),
+                    Arrays.copyOf(jumps, size),
+                    consumers.toArray(Consumer[]::new));
+        }
+
+        private int add(EventFilter<E, ?> filter, BiPredicate<E, Object> predicate, Consumer<E> consumer) {
+            final int index = size();
+            if (index == jumps.length) jumps = Arrays.copyOf(jumps, index * 2);
+            filters.add(filter);
+            predicates.add(predicate);
+            consumers.add(consumer);
+            return index;
+        }
+    }
+}
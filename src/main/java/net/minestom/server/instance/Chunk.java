@@ -1,5 +1,6 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.Tickable;
 import net.minestom.server.Viewable;
@@ -23,6 +24,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -45,6 +48,16 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     public static final int CHUNK_SIZE_Z = 16;
     public static final int CHUNK_SECTION_SIZE = 16;
 
+    private static final VarHandle BLOCK_CHANGE_VERSION;
+
+    static {
+        try {
+            BLOCK_CHANGE_VERSION = MethodHandles.lookup().findVarHandle(Chunk.class, "blockChangeVersion", int.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private final UUID identifier;
 
     protected Instance instance;
@@ -56,6 +69,9 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     private boolean readOnly;
 
     protected volatile boolean loaded = true;
+    // Odd while blocks are being written, see DynamicChunk#getBlockStateIdOptimistic
+    private volatile int blockChangeVersion;
+    private int blockChangeDepth;
     private final Viewable viewable;
 
     // Data
@@ -98,6 +114,21 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
                                      @Nullable BlockHandler.Placement placement,
                                      @Nullable BlockHandler.Destroy destroy);
 
+    /**
+     * Sets a block, returning the {@link BlockHandler} callbacks instead of calling them.
+     * <p>
+     * Handlers may change blocks of other chunks, the callbacks are run by the caller once the chunk lock is released.
+     * Implementations not deferring them call them directly.
+     *
+     * @return the handler callbacks to run, null if there are none
+     */
+    protected @Nullable Runnable setBlockDeferred(int x, int y, int z, @NotNull Block block,
+                                                  @Nullable BlockHandler.Placement placement,
+                                                  @Nullable BlockHandler.Destroy destroy) {
+        setBlock(x, y, z, block, placement, destroy);
+        return null;
+    }
+
     public abstract @NotNull List<Section> getSections();
 
     public abstract @NotNull Section getSection(int section);
@@ -133,6 +164,54 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
      */
     public abstract long getLastChangeTime();
 
+    /**
+     * Gets a counter incremented every time a block of this chunk changes.
+     * <p>
+     * Used to cheaply detect block changes, for example to wake up resting entities.
+     *
+     * @return the block change version
+     */
+    public int getBlockChangeVersion() {
+        return blockChangeVersion;
+    }
+
+    /**
+     * Increments the block change version without taking the chunk lock.
+     * <p>
+     * The version stays odd if a block write is in progress on another thread.
+     */
+    protected void incrementBlockChangeVersion() {
+        BLOCK_CHANGE_VERSION.getAndAdd(this, 2);
+    }
+
+    /**
+     * Marks the start of a block write, readers not holding the chunk lock retry until {@link #endBlockChange()}.
+     * <p>
+     * Must be called while holding the chunk lock, calls can be nested.
+     */
+    protected final void beginBlockChange() {
+        if (blockChangeDepth++ != 0) return;
+        // Atomic, the version can be incremented concurrently without the lock
+        BLOCK_CHANGE_VERSION.getAndAdd(this, 1);
+    }
+
+    protected final void endBlockChange() {
+        if (--blockChangeDepth != 0) return;
+        BLOCK_CHANGE_VERSION.getAndAdd(this, 1);
+    }
+
+    /**
+     * Gets the blocks whose handler overrides {@link BlockHandler#onTouch(BlockHandler.Touch)},
+     * to only check those when entities move.
+     *
+     * @return an unmodifiable map of the touchable blocks indexed by {@link CoordConversion#chunkBlockIndex(int, int, int)},
+     * or null if this chunk does not index them
+     */
+    @ApiStatus.Internal
+    public @Nullable Int2ObjectMap<Block> getTouchableBlocks() {
+        return null;
+    }
+
     /**
      * Sends the chunk data to {@code player}.
      *
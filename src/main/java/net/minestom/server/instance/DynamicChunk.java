@@ -1,5 +1,7 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.nbt.LongArrayBinaryTag;
@@ -13,8 +15,6 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.heightmap.MotionBlockingHeightmap;
 import net.minestom.server.instance.heightmap.WorldSurfaceHeightmap;
-import net.minestom.server.instance.palette.Palette;
-import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
@@ -29,15 +29,16 @@ import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.VarHandle;
 import java.util.*;
 
 import static net.minestom.server.coordinate.CoordConversion.globalToSectionRelative;
-import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 /**
  * Represents a {@link Chunk} which store each individual block in memory.
@@ -46,6 +47,17 @@ import static net.minestom.server.network.NetworkBuffer.SHORT;
  */
 public class DynamicChunk extends Chunk {
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicChunk.class);
+    // Whether a handler class overrides BlockHandler#onTouch
+    private static final ClassValue<Boolean> TOUCHABLE_HANDLERS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("onTouch", BlockHandler.Touch.class).getDeclaringClass() != BlockHandler.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
 
     protected List<Section> sections;
 
@@ -57,6 +69,8 @@ public class DynamicChunk extends Chunk {
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    // Copied on write, read by entities without the chunk lock
+    protected volatile Int2ObjectMap<Block> touchableMap = Int2ObjectMaps.emptyMap();
 
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
@@ -73,11 +87,19 @@ public class DynamicChunk extends Chunk {
     public void setBlock(int x, int y, int z, @NotNull Block block,
                          @Nullable BlockHandler.Placement placement,
                          @Nullable BlockHandler.Destroy destroy) {
+        final Runnable callbacks = setBlockDeferred(x, y, z, block, placement, destroy);
+        if (callbacks != null) callbacks.run();
+    }
+
+    @Override
+    protected @Nullable Runnable setBlockDeferred(int x, int y, int z, @NotNull Block block,
+                                                  @Nullable BlockHandler.Placement placement,
+                                                  @Nullable BlockHandler.Destroy destroy) {
         final DimensionType instanceDim = instance.getCachedDimensionType();
         if (y >= instanceDim.maxY() || y < instanceDim.minY()) {
             LOGGER.warn("tried to set a block outside the world bounds, should be within [{}, {}): {}",
                     instanceDim.minY(), instanceDim.maxY(), y);
-            return;
+            return null;
         }
         assertLock();
 
@@ -89,12 +111,15 @@ public class DynamicChunk extends Chunk {
         int sectionRelativeX = globalToSectionRelative(x);
         int sectionRelativeZ = globalToSectionRelative(z);
 
+        beginBlockChange();
         section.blockPalette().set(
                 sectionRelativeX,
                 globalToSectionRelative(y),
                 sectionRelativeZ,
                 block.stateId()
         );
+        endBlockChange();
+        section.invalidate();
 
         final int index = CoordConversion.chunkBlockIndex(x, y, z);
         // Handler
@@ -111,27 +136,36 @@ public class DynamicChunk extends Chunk {
         } else {
             this.tickableMap.remove(index);
         }
-
-        // Update block handlers
-        var blockPosition = new Vec(x, y, z);
-        if (lastCachedBlock != null && lastCachedBlock.handler() != null) {
-            // Previous destroy
-            lastCachedBlock.handler().onDestroy(Objects.requireNonNullElseGet(destroy,
-                    () -> new BlockHandler.Destroy(lastCachedBlock, instance, blockPosition)));
-        }
-        if (handler != null) {
-            // New placement
-
-            var absoluteBlockPosition = new Vec(getChunkX() * 16 + x, y, getChunkZ() * 16 + z);
-            final Block finalBlock = block;
-            handler.onPlace(Objects.requireNonNullElseGet(placement,
-                    () -> new BlockHandler.Placement(finalBlock, instance, absoluteBlockPosition)));
+        // Block touch
+        if (handler != null && TOUCHABLE_HANDLERS.get(handler.getClass())) {
+            updateTouchable(index, block);
+        } else if (touchableMap.containsKey(index)) {
+            updateTouchable(index, null);
         }
 
         // UpdateHeightMaps
         if (needsCompleteHeightmapRefresh) calculateFullHeightmap();
         motionBlocking.refresh(sectionRelativeX, y, sectionRelativeZ, block);
         worldSurface.refresh(sectionRelativeX, y, sectionRelativeZ, block);
+
+        // Update block handlers
+        final boolean destroyed = lastCachedBlock != null && lastCachedBlock.handler() != null;
+        if (!destroyed && handler == null) return null;
+        final Block finalBlock = block;
+        return () -> {
+            var blockPosition = new Vec(x, y, z);
+            if (destroyed) {
+                // Previous destroy
+                lastCachedBlock.handler().onDestroy(Objects.requireNonNullElseGet(destroy,
+                        () -> new BlockHandler.Destroy(lastCachedBlock, instance, blockPosition)));
+            }
+            if (handler != null) {
+                // New placement
+                var absoluteBlockPosition = new Vec(getChunkX() * 16 + x, y, getChunkZ() * 16 + z);
+                handler.onPlace(Objects.requireNonNullElseGet(placement,
+                        () -> new BlockHandler.Placement(finalBlock, instance, absoluteBlockPosition)));
+            }
+        };
     }
 
     @Override
@@ -147,6 +181,7 @@ public class DynamicChunk extends Chunk {
                 globalToSectionRelative(x) / 4,
                 globalToSectionRelative(y) / 4,
                 globalToSectionRelative(z) / 4, id);
+        section.invalidate();
     }
 
     @Override
@@ -214,6 +249,33 @@ public class DynamicChunk extends Chunk {
         return Objects.requireNonNullElse(Block.fromStateId((short) blockStateId), Block.AIR);
     }
 
+    /**
+     * Reads a block state id without the chunk lock.
+     * <p>
+     * The read is validated against {@link #getBlockChangeVersion()}, it fails if a block was written meanwhile.
+     * Handlers and nbt are not available this way.
+     *
+     * @return the block state id, -1 if the read raced with a write and must be retried under the chunk lock
+     */
+    @ApiStatus.Internal
+    public int getBlockStateIdOptimistic(int x, int y, int z) {
+        final int version = getBlockChangeVersion();
+        if ((version & 1) != 0) return -1; // Being written
+        if (y < minSection * CHUNK_SECTION_SIZE || y >= maxSection * CHUNK_SECTION_SIZE)
+            return Block.AIR.stateId(); // Out of bounds
+        final int blockStateId;
+        try {
+            blockStateId = getSectionAt(y).blockPalette()
+                    .get(globalToSectionRelative(x), globalToSectionRelative(y), globalToSectionRelative(z));
+        } catch (RuntimeException e) {
+            // The palette was resized during the read
+            return -1;
+        }
+        // The palette read must happen before the version check
+        VarHandle.acquireFence();
+        return getBlockChangeVersion() == version ? blockStateId : -1;
+    }
+
     @Override
     public @NotNull DynamicRegistry.Key<Biome> getBiome(int x, int y, int z) {
         assertLock();
@@ -241,18 +303,39 @@ public class DynamicChunk extends Chunk {
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
         dynamicChunk.sections = sections.stream().map(Section::clone).toList();
         dynamicChunk.entries.putAll(entries);
+        dynamicChunk.touchableMap = touchableMap;
         return dynamicChunk;
     }
 
+    @Override
+    public @NotNull Int2ObjectMap<Block> getTouchableBlocks() {
+        return touchableMap;
+    }
+
     @Override
     public void reset() {
+        beginBlockChange();
         for (Section section : sections) section.clear();
+        endBlockChange();
         this.entries.clear();
+        this.touchableMap = Int2ObjectMaps.emptyMap();
     }
 
     @Override
     public void invalidate() {
+        for (Section section : sections) section.invalidate();
         this.chunkCache.invalidate();
+        incrementBlockChangeVersion();
+    }
+
+    private void updateTouchable(int index, @Nullable Block block) {
+        Int2ObjectOpenHashMap<Block> touchable = new Int2ObjectOpenHashMap<>(touchableMap);
+        if (block != null) {
+            touchable.put(index, block);
+        } else {
+            touchable.remove(index);
+        }
+        this.touchableMap = touchable.isEmpty() ? Int2ObjectMaps.emptyMap() : Int2ObjectMaps.unmodifiable(touchable);
     }
 
     private @NotNull ChunkDataPacket createChunkPacket() {
@@ -261,13 +344,20 @@ public class DynamicChunk extends Chunk {
         synchronized (this) {
             heightmapsNBT = getHeightmapNBT();
 
-            data = NetworkBuffer.makeArray(networkBuffer -> {
-                for (Section section : sections) {
-                    networkBuffer.write(SHORT, (short) section.blockPalette().count());
-                    networkBuffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
-                    networkBuffer.write(Palette.BIOME_SERIALIZER, section.biomePalette());
-                }
-            });
+            // Only the sections modified since the last packet are serialized again
+            final byte[][] sectionsData = new byte[sections.size()][];
+            int length = 0;
+            for (int i = 0; i < sectionsData.length; i++) {
+                final byte[] sectionData = sections.get(i).paletteData();
+                sectionsData[i] = sectionData;
+                length += sectionData.length;
+            }
+            data = new byte[length];
+            int offset = 0;
+            for (byte[] sectionData : sectionsData) {
+                System.arraycopy(sectionData, 0, data, offset, sectionData.length);
+                offset += sectionData.length;
+            }
         }
 
         return new ChunkDataPacket(chunkX, chunkZ,
@@ -22,11 +22,21 @@ import java.util.function.Consumer;
  * <p>
  * Implementations are expected to be thread-safe.
  */
-public sealed interface EntityTracker permits EntityTrackerImpl {
+public sealed interface EntityTracker permits EntityTrackerImpl, GridEntityTrackerImpl {
     static @NotNull EntityTracker newTracker() {
         return new EntityTrackerImpl();
     }
 
+    /**
+     * Creates a tracker storing entity positions in primitive arrays per chunk-sized cell.
+     * <p>
+     * Range queries ({@link #nearbyEntities(Point, double, Target, Consumer)}) are faster,
+     * at the cost of more expensive chunk transitions.
+     */
+    static @NotNull EntityTracker newGridTracker() {
+        return new GridEntityTrackerImpl();
+    }
+
     /**
      * Register an entity to be tracked.
      */
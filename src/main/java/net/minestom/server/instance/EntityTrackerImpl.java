@@ -207,7 +207,7 @@ final class EntityTrackerImpl implements EntityTracker {
     @Override
     public @NotNull Viewable viewable(@NotNull List<@NotNull SharedInstance> sharedInstances, int chunkX, int chunkZ) {
         var entry = targetEntries[Target.PLAYERS.ordinal()];
-        return entry.viewers.computeIfAbsent(new ChunkViewKey(sharedInstances, chunkX, chunkZ), ChunkView::new);
+        return entry.viewers.computeIfAbsent(new ChunkViewKey(sharedInstances, chunkX, chunkZ), key -> new ChunkView(this, key));
     }
 
     private static class EntityTrackerEntry {
@@ -287,14 +287,16 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
-    private final class ChunkView implements Viewable {
+    static final class ChunkView implements Viewable {
+        private final EntityTracker tracker;
         private final ChunkViewKey key;
         private final int chunkX, chunkZ;
         private final Point point;
         final Set<Player> set = new SetImpl();
         private int lastReferenceCount;
 
-        private ChunkView(ChunkViewKey key) {
+        ChunkView(EntityTracker tracker, ChunkViewKey key) {
+            this.tracker = tracker;
             this.key = key;
 
             this.chunkX = key.chunkX;
@@ -320,7 +322,7 @@ final class EntityTrackerImpl implements EntityTracker {
 
         private Collection<Player> references() {
             Int2ObjectOpenHashMap<Player> entityMap = new Int2ObjectOpenHashMap<>(lastReferenceCount);
-            collectPlayers(EntityTrackerImpl.this, entityMap);
+            collectPlayers(tracker, entityMap);
             if (!key.sharedInstances.isEmpty()) {
                 for (SharedInstance instance : key.sharedInstances) {
                     collectPlayers(instance.getEntityTracker(), entityMap);
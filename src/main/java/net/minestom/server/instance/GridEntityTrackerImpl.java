@@ -0,0 +1,361 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.Viewable;
+import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.EntityTrackerImpl.ChunkView;
+import net.minestom.server.instance.EntityTrackerImpl.ChunkViewKey;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import space.vectrix.flare.fastutil.Int2ObjectSyncMap;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Entity tracker storing entities in a grid of chunk-sized cells.
+ * <p>
+ * Each cell keeps its entities positions in primitive arrays next to the entities,
+ * range queries are linear scans over these arrays without any map lookup per entity.
+ * Cells are copy-on-write for structural changes (entity entering/leaving), positions are updated in place.
+ */
+final class GridEntityTrackerImpl implements EntityTracker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GridEntityTrackerImpl.class);
+
+    // The array index is the Target ordinal
+    private final GridTarget[] targets = Target.TARGETS.stream().map(GridTarget::new).toArray(GridTarget[]::new);
+
+    private final Int2ObjectSyncMap<Entry> entriesByEntityId = Int2ObjectSyncMap.hashmap();
+    private final Map<UUID, Entry> entriesByEntityUuid = new ConcurrentHashMap<>();
+    private final Map<ChunkViewKey, ChunkView> viewers = new ConcurrentHashMap<>();
+
+    @Override
+    public <T extends Entity> void register(@NotNull Entity entity, @NotNull Point point,
+                                            @NotNull Target<T> target, @Nullable Update<T> update) {
+        Entry newEntry = new Entry(entity, point, targets.length);
+
+        Entry prevEntryWithId = entriesByEntityId.putIfAbsent(entity.getEntityId(), newEntry);
+        Check.isTrue(prevEntryWithId == null, "There is already an entity registered with id {0}", entity.getEntityId());
+        Entry prevEntryWithUuid = entriesByEntityUuid.putIfAbsent(entity.getUuid(), newEntry);
+        Check.isTrue(prevEntryWithUuid == null, "There is already an entity registered with uuid {0}", entity.getUuid());
+
+        final long index = CoordConversion.chunkIndex(point);
+        for (GridTarget gridTarget : targets) {
+            if (gridTarget.target.type().isInstance(entity)) {
+                newEntry.targetMask |= 1 << gridTarget.target.ordinal();
+                gridTarget.entities.add(entity);
+                gridTarget.cell(index).add(newEntry, point);
+            }
+        }
+        if (update != null) {
+            update.referenceUpdate(point, this);
+            nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
+                if (newEntity == entity) return;
+                update.add(newEntity);
+            });
+        }
+    }
+
+    @Override
+    public <T extends Entity> void unregister(@NotNull Entity entity,
+                                              @NotNull Target<T> target, @Nullable Update<T> update) {
+        Entry entry = entriesByEntityId.remove(entity.getEntityId());
+        entriesByEntityUuid.remove(entity.getUuid());
+        final Point point = entry == null ? null : entry.lastPosition;
+        if (point == null) return;
+
+        final long index = CoordConversion.chunkIndex(point);
+        for (GridTarget gridTarget : targets) {
+            if (entry.hasTarget(gridTarget.target)) {
+                gridTarget.entities.remove(entity);
+                gridTarget.cell(index).remove(entry);
+            }
+        }
+        if (update != null) {
+            update.referenceUpdate(point, null);
+            nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
+                if (newEntity == entity) return;
+                update.remove(newEntity);
+            });
+        }
+    }
+
+    @Override
+    public @Nullable Entity getEntityById(int id) {
+        Entry entry = entriesByEntityId.get(id);
+        return entry == null ? null : entry.entity;
+    }
+
+    @Override
+    public @Nullable Entity getEntityByUuid(UUID uuid) {
+        Entry entry = entriesByEntityUuid.get(uuid);
+        return entry == null ? null : entry.entity;
+    }
+
+    @Override
+    public <T extends Entity> void move(@NotNull Entity entity, @NotNull Point newPoint,
+                                        @NotNull Target<T> target, @Nullable Update<T> update) {
+        Entry entry = entriesByEntityId.get(entity.getEntityId());
+        if (entry == null) {
+            LOGGER.warn("Attempted to move unregistered entity {} in the entity tracker", entity.getEntityId());
+            return;
+        }
+        final Point oldPoint = entry.lastPosition;
+        entry.lastPosition = newPoint;
+        final long newIndex = CoordConversion.chunkIndex(newPoint);
+        if (oldPoint == null || oldPoint.sameChunk(newPoint)) {
+            // Same cell, only update the position
+            for (GridTarget gridTarget : targets) {
+                if (entry.hasTarget(gridTarget.target)) {
+                    gridTarget.cell(newIndex).update(entry, newPoint);
+                }
+            }
+            return;
+        }
+        final long oldIndex = CoordConversion.chunkIndex(oldPoint);
+        for (GridTarget gridTarget : targets) {
+            if (entry.hasTarget(gridTarget.target)) {
+                // Remove first, the entry slot is overwritten when added to the new cell
+                gridTarget.cell(oldIndex).remove(entry);
+                gridTarget.cell(newIndex).add(entry, newPoint);
+            }
+        }
+        if (update != null) {
+            difference(oldPoint, newPoint, target, new Update<>() {
+                @Override
+                public void add(@NotNull T added) {
+                    if (entity != added) update.add(added);
+                }
+
+                @Override
+                public void remove(@NotNull T removed) {
+                    if (entity != removed) update.remove(removed);
+                }
+            });
+            update.referenceUpdate(newPoint, this);
+        }
+    }
+
+    @Override
+    public @UnmodifiableView <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, @NotNull Target<T> target) {
+        //noinspection unchecked
+        return (Collection<T>) targets[target.ordinal()].cell(CoordConversion.chunkIndex(chunkX, chunkZ)).view;
+    }
+
+    @Override
+    public <T extends Entity> void nearbyEntitiesByChunkRange(@NotNull Point point, int chunkRange, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final Long2ObjectSyncMap<Cell> cells = targets[target.ordinal()].cells;
+        if (chunkRange == 0) {
+            // Single chunk
+            final Cell cell = cells.get(CoordConversion.chunkIndex(point));
+            if (cell != null) cell.forEach(query);
+        } else {
+            // Multiple chunks
+            ChunkRange.chunksInRange(point, chunkRange, (chunkX, chunkZ) -> {
+                final Cell cell = cells.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                if (cell != null) cell.forEach(query);
+            });
+        }
+    }
+
+    @Override
+    public <T extends Entity> void nearbyEntities(@NotNull Point point, double range, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final Long2ObjectSyncMap<Cell> cells = targets[target.ordinal()].cells;
+        final double x = point.x(), y = point.y(), z = point.z();
+        final int minChunkX = CoordConversion.globalToChunk(x - range);
+        final int minChunkZ = CoordConversion.globalToChunk(z - range);
+        final int maxChunkX = CoordConversion.globalToChunk(x + range);
+        final int maxChunkZ = CoordConversion.globalToChunk(z + range);
+        final double squaredRange = range * range;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final Cell cell = cells.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                if (cell != null) cell.query(x, y, z, squaredRange, query);
+            }
+        }
+    }
+
+    @Override
+    public @UnmodifiableView @NotNull <T extends Entity> Set<@NotNull T> entities(@NotNull Target<T> target) {
+        //noinspection unchecked
+        return (Set<T>) targets[target.ordinal()].entitiesView;
+    }
+
+    @Override
+    public @NotNull Viewable viewable(@NotNull List<@NotNull SharedInstance> sharedInstances, int chunkX, int chunkZ) {
+        return viewers.computeIfAbsent(new ChunkViewKey(sharedInstances, chunkX, chunkZ), key -> new ChunkView(this, key));
+    }
+
+    private <T extends Entity> void difference(Point oldPoint, Point newPoint,
+                                               @NotNull Target<T> target, @NotNull Update<T> update) {
+        final Long2ObjectSyncMap<Cell> cells = targets[target.ordinal()].cells;
+        ChunkRange.chunksInRangeDiffering(newPoint.chunkX(), newPoint.chunkZ(), oldPoint.chunkX(), oldPoint.chunkZ(),
+                ServerFlag.ENTITY_VIEW_DISTANCE, (chunkX, chunkZ) -> {
+                    // Add
+                    final Cell cell = cells.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                    if (cell != null) cell.forEach(update::add);
+                }, (chunkX, chunkZ) -> {
+                    // Remove
+                    final Cell cell = cells.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                    if (cell != null) cell.forEach(update::remove);
+                });
+    }
+
+    private static final class Entry {
+        private final Entity entity;
+        private volatile Point lastPosition;
+        // Bit set of the targets the entity is part of
+        private int targetMask;
+        // Index of the entity in its cell, per target ordinal
+        private final int[] slots;
+
+        private Entry(Entity entity, Point lastPosition, int targetCount) {
+            this.entity = entity;
+            this.lastPosition = lastPosition;
+            this.slots = new int[targetCount];
+        }
+
+        boolean hasTarget(Target<?> target) {
+            return (targetMask & (1 << target.ordinal())) != 0;
+        }
+    }
+
+    private static final class GridTarget {
+        private final Target<?> target;
+        private final Set<Entity> entities = ConcurrentHashMap.newKeySet(); // Thread-safe since exposed
+        private final Set<Entity> entitiesView = Collections.unmodifiableSet(entities);
+        // Chunk index -> cell
+        private final Long2ObjectSyncMap<Cell> cells = Long2ObjectSyncMap.hashmap();
+
+        GridTarget(Target<?> target) {
+            this.target = target;
+        }
+
+        Cell cell(long index) {
+            return cells.computeIfAbsent(index, i -> new Cell(target.ordinal()));
+        }
+    }
+
+    /**
+     * Entities in a chunk column, with their positions stored as struct of arrays.
+     */
+    private static final class Cell {
+        private static final Snapshot EMPTY = new Snapshot(new Entry[0], new double[0], new double[0], new double[0]);
+
+        private final int ordinal;
+        private volatile Snapshot snapshot = EMPTY;
+        final Collection<Entity> view = new View();
+
+        Cell(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        synchronized void add(Entry entry, Point point) {
+            final Snapshot current = this.snapshot;
+            final int size = current.entries.length;
+            Entry[] entries = Arrays.copyOf(current.entries, size + 1);
+            double[] xs = Arrays.copyOf(current.xs, size + 1);
+            double[] ys = Arrays.copyOf(current.ys, size + 1);
+            double[] zs = Arrays.copyOf(current.zs, size + 1);
+            entries[size] = entry;
+            xs[size] = point.x();
+            ys[size] = point.y();
+            zs[size] = point.z();
+            entry.slots[ordinal] = size;
+            this.snapshot = new Snapshot(entries, xs, ys, zs);
+        }
+
+        synchronized void remove(Entry entry) {
+            final Snapshot current = this.snapshot;
+            final int slot = entry.slots[ordinal];
+            final int size = current.entries.length;
+            if (slot >= size || current.entries[slot] != entry) return;
+            final int newSize = size - 1;
+            Entry[] entries = new Entry[newSize];
+            double[] xs = new double[newSize];
+            double[] ys = new double[newSize];
+            double[] zs = new double[newSize];
+            System.arraycopy(current.entries, 0, entries, 0, slot);
+            System.arraycopy(current.xs, 0, xs, 0, slot);
+            System.arraycopy(current.ys, 0, ys, 0, slot);
+            System.arraycopy(current.zs, 0, zs, 0, slot);
+            final int tail = newSize - slot;
+            System.arraycopy(current.entries, slot + 1, entries, slot, tail);
+            System.arraycopy(current.xs, slot + 1, xs, slot, tail);
+            System.arraycopy(current.ys, slot + 1, ys, slot, tail);
+            System.arraycopy(current.zs, slot + 1, zs, slot, tail);
+            for (int i = slot; i < newSize; i++) entries[i].slots[ordinal] = i;
+            this.snapshot = new Snapshot(entries, xs, ys, zs);
+        }
+
+        synchronized void update(Entry entry, Point point) {
+            final Snapshot current = this.snapshot;
+            final int slot = entry.slots[ordinal];
+            if (slot >= current.entries.length || current.entries[slot] != entry) return;
+            current.xs[slot] = point.x();
+            current.ys[slot] = point.y();
+            current.zs[slot] = point.z();
+        }
+
+        <T extends Entity> void forEach(Consumer<T> consumer) {
+            final Entry[] entries = this.snapshot.entries;
+            //noinspection unchecked
+            for (Entry entry : entries) consumer.accept((T) entry.entity);
+        }
+
+        <T extends Entity> void query(double x, double y, double z, double squaredRange, Consumer<T> consumer) {
+            final Snapshot snapshot = this.snapshot;
+            final double[] xs = snapshot.xs, ys = snapshot.ys, zs = snapshot.zs;
+            for (int i = 0; i < xs.length; i++) {
+                final double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+                if (dx * dx + dy * dy + dz * dz <= squaredRange) {
+                    //noinspection unchecked
+                    consumer.accept((T) snapshot.entries[i].entity);
+                }
+            }
+        }
+
+        private record Snapshot(Entry[] entries, double[] xs, double[] ys, double[] zs) {
+        }
+
+        private final class View extends AbstractCollection<Entity> {
+            @Override
+            public @NotNull Iterator<Entity> iterator() {
+                final Entry[] entries = snapshot.entries;
+                return new Iterator<>() {
+                    int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < entries.length;
+                    }
+
+                    @Override
+                    public Entity next() {
+                        if (index >= entries.length) throw new NoSuchElementException();
+                        return entries[index++].entity;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return snapshot.entries.length;
+            }
+
+            @Override
+            public void forEach(Consumer<? super Entity> action) {
+                Cell.this.forEach(action::accept);
+            }
+        }
+    }
+}
@@ -98,7 +98,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     // Field for tick events
     private long lastTickAge = System.currentTimeMillis();
 
-    private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private EntityTracker entityTracker = new EntityTrackerImpl();
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -745,6 +745,20 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return entityTracker;
     }
 
+    /**
+     * Changes the entity tracker of this instance, e.g. to {@link EntityTracker#newGridTracker()}.
+     * <p>
+     * Must be called before any chunk is loaded or entity is added, chunks keep a reference to the tracker.
+     *
+     * @param entityTracker the new entity tracker
+     * @throws IllegalStateException if a chunk or an entity is already present
+     */
+    public void setEntityTracker(@NotNull EntityTracker entityTracker) {
+        Check.stateCondition(!getChunks().isEmpty() || !this.entityTracker.entities().isEmpty(),
+                "The entity tracker cannot be changed once chunks or entities have been added");
+        this.entityTracker = entityTracker;
+    }
+
     /**
      * Gets the instance unique id.
      *
@@ -44,8 +44,6 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -73,8 +71,8 @@ public class InstanceContainer extends Instance {
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
 
-    private final Lock changingBlockLock = new ReentrantLock();
-    private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
+    // Blocks being changed by the current call chain, per thread
+    private final ThreadLocal<Map<Point, Block>> currentlyChangingBlocks = ThreadLocal.withInitial(HashMap::new);
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
@@ -87,7 +85,10 @@ public class InstanceContainer extends Instance {
 
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
-    private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
+    private volatile long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
+
+    // Block changes sent on the next tick, null if sent immediately
+    private volatile PendingBlockChanges pendingBlockChanges;
 
     public InstanceContainer(@NotNull UUID uniqueId, @NotNull DynamicRegistry.Key<DimensionType> dimensionType) {
         this(uniqueId, dimensionType, null, dimensionType.namespace());
@@ -132,7 +133,9 @@ public class InstanceContainer extends Instance {
     /**
      * Sets a block at the specified position.
      * <p>
-     * Unsafe because the method is not synchronized and it does not verify if the chunk is loaded or not.
+     * Unsafe because the method does not verify if the chunk is loaded or not.
+     * Only the chunk is locked while being modified, placement rules and neighbour updates are executed outside the lock
+     * so that block changes in different chunks can run in parallel.
      *
      * @param chunk the {@link Chunk} which should be loaded
      * @param x     the block X
@@ -140,9 +143,9 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
-    private synchronized void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
-                                              @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
-                                              boolean doBlockUpdates, int updateDistance) {
+    private void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                 boolean doBlockUpdates, int updateDistance) {
         if (chunk.isReadOnly()) return;
         final DimensionType dim = getCachedDimensionType();
         if (y >= dim.maxY() || y < dim.minY()) {
@@ -150,16 +153,18 @@ public class InstanceContainer extends Instance {
             return;
         }
 
-        synchronized (chunk) {
+        final Map<Point, Block> changingBlocks = this.currentlyChangingBlocks.get();
+        final boolean chainStart = changingBlocks.isEmpty();
+        try {
             // Refresh the last block change time
             this.lastBlockChangeTime = System.currentTimeMillis();
             final Vec blockPosition = new Vec(x, y, z);
-            if (isAlreadyChanged(blockPosition, block)) { // do NOT change the block again.
+            if (isAlreadyChanged(changingBlocks, blockPosition, block)) { // do NOT change the block again.
                 // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
                 // This can happen with nether portals which break the entire frame when a portal block is broken
                 return;
             }
-            this.currentlyChangingBlocks.put(blockPosition, block);
+            changingBlocks.put(blockPosition, block);
 
             // Change id based on neighbors
             final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
@@ -185,23 +190,34 @@ public class InstanceContainer extends Instance {
                 if (block == null) block = Block.AIR;
             }
 
-            // Set the block
-            chunk.setBlock(x, y, z, block, placement, destroy);
+            final Runnable handlerCallbacks;
+            synchronized (chunk) {
+                // Set the block
+                handlerCallbacks = chunk.setBlockDeferred(x, y, z, block, placement, destroy);
+
+                // Refresh player chunk block
+                final PendingBlockChanges pendingBlockChanges = this.pendingBlockChanges;
+                if (pendingBlockChanges != null) {
+                    pendingBlockChanges.add(chunk, x, y, z, block);
+                } else {
+                    chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
+                    var registry = block.registry();
+                    if (registry.isBlockEntity()) {
+                        final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
+                        chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
+                    }
+                }
+            }
+
+            // Handlers and neighbors run outside the chunk lock, they may change blocks of other chunks
+            if (handlerCallbacks != null) handlerCallbacks.run();
 
             // Refresh neighbors since a new block has been placed
             if (doBlockUpdates) {
                 executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
             }
-
-            // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                var registry = block.registry();
-                if (registry.isBlockEntity()) {
-                    final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
-                }
-            }
+        } finally {
+            if (chainStart) changingBlocks.clear();
         }
     }
 
@@ -440,7 +456,10 @@ public class InstanceContainer extends Instance {
             Section section = chunk.getSectionAt(sectionModifier.start().blockY());
             Palette currentBlocks = section.blockPalette();
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
+            chunk.beginBlockChange();
             sectionModifier.genSection().blocks().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
+            chunk.endBlockChange();
+            section.invalidate();
             applyGenerationData(chunk, sectionModifier);
         }
     }
@@ -471,6 +490,32 @@ public class InstanceContainer extends Instance {
         return autoChunkLoad;
     }
 
+    /**
+     * Enables or disables block change coalescing.
+     * <p>
+     * When enabled, block changes are not sent immediately but on the next instance tick,
+     * with one {@link net.minestom.server.network.packet.server.play.MultiBlockChangePacket} per modified section.
+     * Useful when many blocks are changed one by one, for example to reset an arena.
+     *
+     * @param enable true to coalesce block changes
+     */
+    public void enableBlockChangeCoalescing(boolean enable) {
+        if (enable == hasEnabledBlockChangeCoalescing()) return;
+        final PendingBlockChanges previous = this.pendingBlockChanges;
+        this.pendingBlockChanges = enable ? new PendingBlockChanges() : null;
+        if (previous != null) previous.flush(this);
+    }
+
+    /**
+     * Gets if block changes are coalesced until the next tick.
+     *
+     * @return true if block change coalescing is enabled
+     * @see #enableBlockChangeCoalescing(boolean)
+     */
+    public boolean hasEnabledBlockChangeCoalescing() {
+        return pendingBlockChanges != null;
+    }
+
     @Override
     public boolean isInVoid(@NotNull Point point) {
         // TODO: more customizable
@@ -631,23 +676,23 @@ public class InstanceContainer extends Instance {
     public void tick(long time) {
         // Time/world border
         super.tick(time);
-        // Clear block change map
-        Lock wrlock = this.changingBlockLock;
-        wrlock.lock();
-        this.currentlyChangingBlocks.clear();
-        wrlock.unlock();
+        // Send the block changes since the last tick
+        final PendingBlockChanges pendingBlockChanges = this.pendingBlockChanges;
+        if (pendingBlockChanges != null) pendingBlockChanges.flush(this);
     }
 
     /**
-     * Has this block already changed since last update?
+     * Has this block already been changed by the current call chain?
      * Prevents StackOverflow with blocks trying to modify their position in onDestroy or onPlace.
      *
-     * @param blockPosition the block position
-     * @param block         the block
-     * @return true if the block changed since the last update
+     * @param changingBlocks the blocks changed by the current call chain
+     * @param blockPosition  the block position
+     * @param block          the block
+     * @return true if the block has already been changed
      */
-    private boolean isAlreadyChanged(@NotNull Point blockPosition, @NotNull Block block) {
-        final Block changedBlock = currentlyChangingBlocks.get(blockPosition);
+    private static boolean isAlreadyChanged(@NotNull Map<Point, Block> changingBlocks,
+                                            @NotNull Point blockPosition, @NotNull Block block) {
+        final Block changedBlock = changingBlocks.get(blockPosition);
         return Objects.equals(changedBlock, block);
     }
 
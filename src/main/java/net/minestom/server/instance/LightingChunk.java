@@ -18,10 +18,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,7 +34,8 @@ import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
  */
 public class LightingChunk extends DynamicChunk {
 
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
+    private static final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
 
     private int[] occlusionMap;
     final CachedPacket partialLightCache = new CachedPacket(this::createLightPacket);
@@ -87,6 +87,13 @@ public class LightingChunk extends DynamicChunk {
             Block.LAVA.namespace()
     );
 
+    /**
+     * Invalidates the light and chunk packets.
+     * <p>
+     * Called on the neighbours of every block change, the section palettes and the block change version
+     * are left to the palette writes.
+     */
+    @Override
     public void invalidate() {
         this.partialLightCache.invalidate();
         this.chunkCache.invalidate();
@@ -153,10 +160,10 @@ public class LightingChunk extends DynamicChunk {
     }
 
     @Override
-    public void setBlock(int x, int y, int z, @NotNull Block block,
-                         @Nullable BlockHandler.Placement placement,
-                         @Nullable BlockHandler.Destroy destroy) {
-        super.setBlock(x, y, z, block, placement, destroy);
+    protected @Nullable Runnable setBlockDeferred(int x, int y, int z, @NotNull Block block,
+                                                  @Nullable BlockHandler.Placement placement,
+                                                  @Nullable BlockHandler.Destroy destroy) {
+        final Runnable callbacks = super.setBlockDeferred(x, y, z, block, placement, destroy);
         this.occlusionMap = null;
 
         // Invalidate neighbor chunks, since they can be updated by this block change
@@ -166,6 +173,7 @@ public class LightingChunk extends DynamicChunk {
             invalidateResendDelay();
             this.partialLightCache.invalidate();
         }
+        return callbacks;
     }
 
     public void sendLighting() {
@@ -346,11 +354,8 @@ public class LightingChunk extends DynamicChunk {
     }
 
     private static Set<Chunk> flushQueue(Instance instance, Set<Point> queue, LightType type, QueueType queueType) {
-        Set<Light> sections = ConcurrentHashMap.newKeySet();
         Set<Point> newQueue = ConcurrentHashMap.newKeySet();
-
         Set<Chunk> responseChunks = ConcurrentHashMap.newKeySet();
-        List<CompletableFuture<Void>> tasks = new ArrayList<>();
 
         Light.LightLookup lightLookup = (x, y, z) -> {
             Chunk chunk = instance.getChunk(x, z);
@@ -372,40 +377,46 @@ public class LightingChunk extends DynamicChunk {
             return chunk.getSection(y).blockPalette();
         };
 
+        // Group sections by chunk, each chunk column is computed by a single task
+        Map<Chunk, List<Point>> columns = new HashMap<>();
         for (Point point : queue) {
             Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
-            if (!(chunk instanceof LightingChunk lightingChunk)) continue;
-
-            Section section = chunk.getSection(point.blockY());
-            responseChunks.add(chunk);
-
-            Light light = switch (type) {
-                case BLOCK -> section.blockLight();
-                case SKY -> section.skyLight();
-            };
+            if (!(chunk instanceof LightingChunk)) continue;
+            columns.computeIfAbsent(chunk, c -> new ArrayList<>()).add(point);
+        }
 
-            final Palette blockPalette = section.blockPalette();
-            CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-                final Set<Point> toAdd = switch (queueType) {
-                    case INTERNAL -> light.calculateInternal(blockPalette,
-                            chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
-                            lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
-                            lightLookup);
-                    case EXTERNAL -> light.calculateExternal(blockPalette,
-                            Light.getNeighbors(chunk, point.blockY()),
-                            lightLookup, paletteLookup);
-                };
-
-                sections.add(light);
-
-                light.flip();
-                newQueue.addAll(toAdd);
-            }, pool);
-
-            tasks.add(task);
+        // Lights are flipped once every task completed, so that neighbors read a consistent state during the pass
+        List<Light> computed = Collections.synchronizedList(new ArrayList<>(queue.size()));
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(columns.size());
+        for (Map.Entry<Chunk, List<Point>> entry : columns.entrySet()) {
+            final LightingChunk lightingChunk = (LightingChunk) entry.getKey();
+            final List<Point> points = entry.getValue();
+            responseChunks.add(lightingChunk);
+            tasks.add(pool.submit(() -> {
+                for (Point point : points) {
+                    final Section section = lightingChunk.getSection(point.blockY());
+                    final Light light = switch (type) {
+                        case BLOCK -> section.blockLight();
+                        case SKY -> section.skyLight();
+                    };
+                    final Palette blockPalette = section.blockPalette();
+                    final Set<Point> toAdd = switch (queueType) {
+                        case INTERNAL -> light.calculateInternal(blockPalette,
+                                lightingChunk.getChunkX(), point.blockY(), lightingChunk.getChunkZ(),
+                                lightingChunk.getOcclusionMap(), lightingChunk.instance.getCachedDimensionType().maxY(),
+                                lightLookup);
+                        case EXTERNAL -> light.calculateExternal(blockPalette,
+                                Light.getNeighbors(lightingChunk, point.blockY()),
+                                lightLookup, paletteLookup);
+                    };
+                    computed.add(light);
+                    newQueue.addAll(toAdd);
+                }
+            }));
         }
 
-        tasks.forEach(CompletableFuture::join);
+        tasks.forEach(ForkJoinTask::join);
+        computed.forEach(Light::flip);
 
         if (!newQueue.isEmpty()) {
             var newResponse = flushQueue(instance, newQueue, type, QueueType.EXTERNAL);
@@ -558,6 +569,7 @@ public class LightingChunk extends DynamicChunk {
         LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ);
         lightingChunk.sections = sections.stream().map(Section::clone).toList();
         lightingChunk.entries.putAll(entries);
+        lightingChunk.touchableMap = touchableMap;
         return lightingChunk;
     }
 
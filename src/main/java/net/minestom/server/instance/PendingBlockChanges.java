@@ -0,0 +1,93 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the block changes of an {@link InstanceContainer} until its next tick,
+ * to send a single {@link MultiBlockChangePacket} per modified section.
+ * <p>
+ * Chunks with more changes than {@link ServerFlag#BLOCK_CHANGE_RESEND_THRESHOLD} are resent instead.
+ */
+final class PendingBlockChanges {
+    // Latest block per chunk block index, only accessed inside map computations
+    private final Map<Long, Int2ObjectOpenHashMap<Block>> chunks = new ConcurrentHashMap<>();
+
+    void add(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block) {
+        final long chunkIndex = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        this.chunks.compute(chunkIndex, (index, blocks) -> {
+            if (blocks == null) blocks = new Int2ObjectOpenHashMap<>();
+            blocks.put(CoordConversion.chunkBlockIndex(x, y, z), block);
+            return blocks;
+        });
+    }
+
+    void flush(@NotNull Instance instance) {
+        if (chunks.isEmpty()) return;
+        for (long chunkIndex : chunks.keySet()) {
+            final Int2ObjectOpenHashMap<Block> blocks = chunks.remove(chunkIndex);
+            if (blocks == null) continue;
+            final Chunk chunk = instance.getChunk(CoordConversion.chunkIndexGetX(chunkIndex), CoordConversion.chunkIndexGetZ(chunkIndex));
+            // Unloaded chunks are sent again entirely when loaded
+            if (chunk == null || !chunk.isLoaded()) continue;
+            send(chunk, blocks);
+        }
+    }
+
+    private static void send(@NotNull Chunk chunk, @NotNull Int2ObjectMap<Block> blocks) {
+        if (blocks.size() >= ServerFlag.BLOCK_CHANGE_RESEND_THRESHOLD) {
+            chunk.sendChunk();
+            return;
+        }
+        final int chunkX = chunk.getChunkX();
+        final int chunkZ = chunk.getChunkZ();
+        // Group the changes by section, encoded as in MultiBlockChangePacket
+        Int2ObjectMap<LongArrayList> sections = new Int2ObjectOpenHashMap<>();
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final int x = CoordConversion.chunkBlockIndexGetX(index);
+            final int y = CoordConversion.chunkBlockIndexGetY(index);
+            final int z = CoordConversion.chunkBlockIndexGetZ(index);
+            final long encoded = ((long) entry.getValue().stateId() << 12) | (x << 8) | (z << 4) | (y & 0xF);
+            sections.computeIfAbsent(CoordConversion.globalToChunk(y), s -> new LongArrayList()).add(encoded);
+        }
+        for (Int2ObjectMap.Entry<LongArrayList> entry : sections.int2ObjectEntrySet()) {
+            final int section = entry.getIntKey();
+            final LongArrayList changes = entry.getValue();
+            if (changes.size() == 1) {
+                // A single block change is smaller
+                final long encoded = changes.getLong(0);
+                final Vec position = new Vec(chunkX * 16 + (int) ((encoded >> 8) & 0xF),
+                        section * 16 + (int) (encoded & 0xF),
+                        chunkZ * 16 + (int) ((encoded >> 4) & 0xF));
+                chunk.sendPacketToViewers(new BlockChangePacket(position, (int) (encoded >>> 12)));
+            } else {
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(chunkX, section, chunkZ, changes.toLongArray()));
+            }
+        }
+        // Block entities data must follow the block change
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final Block block = entry.getValue();
+            final var registry = block.registry();
+            if (!registry.isBlockEntity()) continue;
+            final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
+            chunk.sendPacketToViewers(new BlockEntityDataPacket(
+                    CoordConversion.chunkBlockIndexGetGlobal(entry.getIntKey(), chunkX, chunkZ),
+                    registry.blockEntityId(), data));
+        }
+    }
+}
@@ -2,12 +2,15 @@ package net.minestom.server.instance;
 
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 
 import static net.minestom.server.instance.light.LightCompute.CONTENT_FULLY_LIT;
 import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
+import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 public final class Section {
     private final Palette blockPalette;
@@ -15,6 +18,9 @@ public final class Section {
     private final Light skyLight;
     private final Light blockLight;
 
+    // Serialized palettes, null if the section changed since the last serialization
+    private volatile byte[] paletteData;
+
     private Section(Palette blockPalette, Palette biomePalette, Light skyLight, Light blockLight) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -41,6 +47,36 @@ public final class Section {
     public void clear() {
         this.blockPalette.fill(0);
         this.biomePalette.fill(0);
+        invalidate();
+    }
+
+    /**
+     * Gets the block count and palettes of this section, as written in the chunk data packet.
+     * <p>
+     * The result is cached until {@link #invalidate()} is called, and must not be modified.
+     *
+     * @return the serialized section
+     */
+    @ApiStatus.Internal
+    public byte @NotNull [] paletteData() {
+        byte[] data = this.paletteData;
+        if (data == null) {
+            data = NetworkBuffer.makeArray(buffer -> {
+                buffer.write(SHORT, (short) blockPalette.count());
+                buffer.write(Palette.BLOCK_SERIALIZER, blockPalette);
+                buffer.write(Palette.BIOME_SERIALIZER, biomePalette);
+            });
+            this.paletteData = data;
+        }
+        return data;
+    }
+
+    /**
+     * Signals that the palettes of this section have been modified,
+     * required when modifying them directly.
+     */
+    public void invalidate() {
+        this.paletteData = null;
     }
 
     @Override
@@ -51,7 +87,9 @@ public final class Section {
         skyLight.set(this.skyLight.array());
         blockLight.set(this.blockLight.array());
 
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        Section section = new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        section.paletteData = this.paletteData;
+        return section;
     }
 
     public void setSkyLight(byte[] copyArray) {
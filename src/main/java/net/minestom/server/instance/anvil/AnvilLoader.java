@@ -1,6 +1,7 @@
 package net.minestom.server.instance.anvil;
 
 import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.kyori.adventure.nbt.*;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.CoordConversion;
@@ -12,6 +13,7 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.palette.Palettes;
 import net.minestom.server.registry.DynamicRegistry;
+import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.validate.Check;
@@ -29,6 +31,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -37,11 +40,12 @@ public class AnvilLoader implements IChunkLoader {
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
     private final static int PLAINS_ID = BIOME_REGISTRY.getId(NamespaceID.from("minecraft:plains"));
 
-    private final ReentrantLock fileCreationLock = new ReentrantLock();
     private final Map<String, RegionFile> alreadyLoaded = new ConcurrentHashMap<>();
     private final Path path;
     private final Path levelPath;
     private final Path regionPath;
+    private final ChunkCompression compression;
+    private final @Nullable ChunkSaveQueue saveQueue;
 
     private static class RegionCache extends ConcurrentHashMap<IntIntImmutablePair, Set<IntIntImmutablePair>> {
     }
@@ -51,14 +55,47 @@ public class AnvilLoader implements IChunkLoader {
      */
     private final RegionCache perRegionLoadedChunks = new RegionCache();
     private final ReentrantLock perRegionLoadedChunksLock = new ReentrantLock();
+    /**
+     * Represents the chunk loads and background writes currently using a region file, which cannot be closed meanwhile.
+     * Guarded by {@link #perRegionLoadedChunksLock}.
+     */
+    private final Object2IntOpenHashMap<IntIntImmutablePair> regionUsers = new Object2IntOpenHashMap<>();
 
     // thread local to avoid contention issues with locks
     private final ThreadLocal<Int2ObjectMap<CompoundBinaryTag>> blockStateId2ObjectCacheTLS = ThreadLocal.withInitial(Int2ObjectArrayMap::new);
 
     public AnvilLoader(@NotNull Path path) {
+        this(path, ChunkCompression.ZLIB);
+    }
+
+    /**
+     * Creates a loader writing chunks with the given compression. Existing chunks are read regardless of their compression.
+     *
+     * @param path        the world folder
+     * @param compression the compression used when saving chunks
+     */
+    public AnvilLoader(@NotNull Path path, @NotNull ChunkCompression compression) {
+        this(path, compression, 0);
+    }
+
+    /**
+     * Creates a loader optionally saving chunks in the background.
+     * <p>
+     * When {@code saveThreads} is positive, {@link #saveChunk(Chunk)} only snapshots the chunk and returns,
+     * encoding and compression happen on {@code saveThreads} threads and region files are written by a single thread.
+     * Repeated saves of a chunk not yet written are coalesced. {@link #close()} must be called before shutting down.
+     *
+     * @param path        the world folder
+     * @param compression the compression used when saving chunks
+     * @param saveThreads the number of threads encoding chunks, 0 to save on the calling thread
+     */
+    public AnvilLoader(@NotNull Path path, @NotNull ChunkCompression compression, int saveThreads) {
+        Check.argCondition(saveThreads < 0, "Save threads cannot be negative");
         this.path = path;
         this.levelPath = path.resolve("level.dat");
         this.regionPath = path.resolve("region");
+        this.compression = compression;
+        this.saveQueue = saveThreads > 0 ? new ChunkSaveQueue(this, compression, saveThreads) : null;
     }
 
     public AnvilLoader(@NotNull String path) {
@@ -94,35 +131,45 @@ public class AnvilLoader implements IChunkLoader {
     }
 
     private @Nullable Chunk loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException {
-        final RegionFile mcaFile = getMCAFile(chunkX, chunkZ);
-        if (mcaFile == null) return null;
-        final CompoundBinaryTag chunkData = mcaFile.readChunkData(chunkX, chunkZ);
+        // A chunk unloaded and loaded again may not be written yet
+        final ChunkSaveQueue saveQueue = this.saveQueue;
+        if (saveQueue != null) saveQueue.awaitSave(chunkX, chunkZ);
+
+        final int regionX = CoordConversion.chunkToRegion(chunkX);
+        final int regionZ = CoordConversion.chunkToRegion(chunkZ);
+        final CompoundBinaryTag chunkData;
+        acquireRegion(regionX, regionZ);
+        try {
+            final RegionFile mcaFile = getMCAFile(chunkX, chunkZ);
+            if (mcaFile == null) return null;
+            chunkData = mcaFile.readChunkData(chunkX, chunkZ);
+        } finally {
+            // Kept open, the region is likely to be read again
+            decrementRegionUsers(new IntIntImmutablePair(regionX, regionZ));
+        }
         if (chunkData == null) return null;
 
         // Load the chunk data (assuming it is fully generated)
         final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
-        synchronized (chunk) { // todo: boo, synchronized
-            final String status = chunkData.getString("status");
-
-            // TODO: Should we handle other statuses?
-            if (status.isEmpty() || "minecraft:full".equals(status)) {
-                // TODO: Parallelize block, block entities and biome loading
-                // Blocks + Biomes
-                loadSections(chunk, chunkData);
-                // Block entities
-                loadBlockEntities(chunk, chunkData);
-
-                chunk.loadHeightmapsFromNBT(chunkData.getCompound("Heightmaps"));
-            } else {
-                LOGGER.warn("Skipping partially generated chunk at {}, {} with status {}", chunkX, chunkZ, status);
-            }
+        // The chunk is not published yet, no need to synchronize
+        final String status = chunkData.getString("status");
+
+        // TODO: Should we handle other statuses?
+        if (status.isEmpty() || "minecraft:full".equals(status)) {
+            // TODO: Parallelize block, block entities and biome loading
+            // Blocks + Biomes
+            loadSections(chunk, chunkData);
+            // Block entities
+            loadBlockEntities(chunk, chunkData);
+
+            chunk.loadHeightmapsFromNBT(chunkData.getCompound("Heightmaps"));
+        } else {
+            LOGGER.warn("Skipping partially generated chunk at {}, {} with status {}", chunkX, chunkZ, status);
         }
 
         // Cache the index of the loaded chunk
         perRegionLoadedChunksLock.lock();
         try {
-            int regionX = CoordConversion.chunkToRegion(chunkX);
-            int regionZ = CoordConversion.chunkToRegion(chunkZ);
             var chunks = perRegionLoadedChunks.computeIfAbsent(new IntIntImmutablePair(regionX, regionZ), r -> new HashSet<>()); // region cache may have been removed on another thread due to unloadChunk
             chunks.add(new IntIntImmutablePair(chunkX, chunkZ));
         } finally {
@@ -134,23 +181,27 @@ public class AnvilLoader implements IChunkLoader {
     private @Nullable RegionFile getMCAFile(int chunkX, int chunkZ) {
         final int regionX = CoordConversion.chunkToRegion(chunkX);
         final int regionZ = CoordConversion.chunkToRegion(chunkZ);
-        return alreadyLoaded.computeIfAbsent(RegionFile.getFileName(regionX, regionZ), n -> {
-            final Path regionPath = this.regionPath.resolve(n);
+        final String regionFileName = RegionFile.getFileName(regionX, regionZ);
+        // Region files are handed out and closed under the same lock
+        perRegionLoadedChunksLock.lock();
+        try {
+            RegionFile mcaFile = alreadyLoaded.get(regionFileName);
+            if (mcaFile != null) return mcaFile;
+            final Path regionPath = this.regionPath.resolve(regionFileName);
             if (!Files.exists(regionPath)) {
                 return null;
             }
-            perRegionLoadedChunksLock.lock();
-            try {
-                Set<IntIntImmutablePair> previousVersion = perRegionLoadedChunks.put(new IntIntImmutablePair(regionX, regionZ), new HashSet<>());
-                assert previousVersion == null : "The AnvilLoader cache should not already have data for this region.";
-                return new RegionFile(regionPath);
-            } catch (IOException e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-                return null;
-            } finally {
-                perRegionLoadedChunksLock.unlock();
-            }
-        });
+            mcaFile = new RegionFile(regionPath, compression);
+            // A chunk read before the region was closed may already be cached
+            perRegionLoadedChunks.computeIfAbsent(new IntIntImmutablePair(regionX, regionZ), r -> new HashSet<>());
+            alreadyLoaded.put(regionFileName, mcaFile);
+            return mcaFile;
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
     }
 
     private void loadSections(@NotNull Chunk chunk, @NotNull CompoundBinaryTag chunkData) {
@@ -319,14 +370,104 @@ public class AnvilLoader implements IChunkLoader {
 
     @Override
     public void saveChunk(@NotNull Chunk chunk) {
+        final ChunkSaveQueue saveQueue = this.saveQueue;
+        if (saveQueue != null) {
+            saveQueue.save(chunk);
+            return;
+        }
+
         final int chunkX = chunk.getChunkX();
         final int chunkZ = chunk.getChunkZ();
+        final int regionX = CoordConversion.chunkToRegion(chunkX);
+        final int regionZ = CoordConversion.chunkToRegion(chunkZ);
+        acquireRegion(regionX, regionZ);
+        try {
+            final RegionFile mcaFile = getOrCreateMCAFile(chunkX, chunkZ);
+            if (mcaFile == null) return;
+            mcaFile.writeChunkData(chunkX, chunkZ, encodeChunk(chunk, chunk.getInstance().getWorldAge()));
+        } catch (IOException e) {
+            LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            releaseRegion(regionX, regionZ);
+        }
+    }
+
+    @Override
+    public void saveChunks(@NotNull Collection<Chunk> chunks) {
+        final ChunkSaveQueue saveQueue = this.saveQueue;
+        if (saveQueue == null) {
+            IChunkLoader.super.saveChunks(chunks);
+            return;
+        }
+        // Snapshots are cheap, encoding is already done in the background
+        for (Chunk chunk : chunks) saveQueue.save(chunk);
+    }
+
+    /**
+     * Waits for the chunks saved so far to be written, when saving in the background.
+     *
+     * @return a future completed once all the pending chunk saves are written
+     * @see #AnvilLoader(Path, ChunkCompression, int)
+     */
+    public @NotNull CompletableFuture<Void> flush() {
+        final ChunkSaveQueue saveQueue = this.saveQueue;
+        return saveQueue != null ? saveQueue.flush() : AsyncUtils.VOID_FUTURE;
+    }
 
-        // Find the region file or create an empty one if missing
-        RegionFile mcaFile;
-        fileCreationLock.lock();
+    /**
+     * Writes the pending chunk saves, stops the background saving threads and closes the region files.
+     * <p>
+     * Chunks cannot be saved in the background anymore once this method returns.
+     *
+     * @see #AnvilLoader(Path, ChunkCompression, int)
+     */
+    public void close() {
+        final ChunkSaveQueue saveQueue = this.saveQueue;
+        if (saveQueue != null) saveQueue.close();
+        perRegionLoadedChunksLock.lock();
         try {
-            mcaFile = getMCAFile(chunkX, chunkZ);
+            for (RegionFile regionFile : alreadyLoaded.values()) {
+                try {
+                    regionFile.close();
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+            alreadyLoaded.clear();
+            perRegionLoadedChunks.clear();
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
+    }
+
+    @NotNull CompoundBinaryTag encodeChunk(@NotNull Chunk chunk, long worldAge) {
+        final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
+
+        chunkData.putInt("DataVersion", MinecraftServer.DATA_VERSION);
+        chunkData.putInt("xPos", chunk.getChunkX());
+        chunkData.putInt("zPos", chunk.getChunkZ());
+        chunkData.putInt("yPos", chunk.getMinSection());
+        chunkData.putString("status", "minecraft:full");
+        chunkData.putLong("LastUpdate", worldAge);
+
+        saveSectionData(chunk, chunkData);
+        return chunkData.build();
+    }
+
+    void writeEncodedChunk(int chunkX, int chunkZ, byte @NotNull [] data) throws IOException {
+        final RegionFile mcaFile = getOrCreateMCAFile(chunkX, chunkZ);
+        if (mcaFile == null) throw new IOException("Failed to create region file for " + chunkX + ", " + chunkZ);
+        mcaFile.writeChunkData(chunkX, chunkZ, compression, data);
+    }
+
+    /**
+     * Finds the region file or create an empty one if missing.
+     */
+    private @Nullable RegionFile getOrCreateMCAFile(int chunkX, int chunkZ) {
+        perRegionLoadedChunksLock.lock();
+        try {
+            RegionFile mcaFile = getMCAFile(chunkX, chunkZ);
             if (mcaFile == null) {
                 final int regionX = CoordConversion.chunkToRegion(chunkX);
                 final int regionZ = CoordConversion.chunkToRegion(chunkZ);
@@ -338,34 +479,17 @@ public class AnvilLoader implements IChunkLoader {
                         Files.createFile(regionFile);
                     }
 
-                    mcaFile = new RegionFile(regionFile);
+                    mcaFile = new RegionFile(regionFile, compression);
                     alreadyLoaded.put(regionFileName, mcaFile);
                 } catch (IOException e) {
                     LOGGER.error("Failed to create region file for " + chunkX + ", " + chunkZ, e);
                     MinecraftServer.getExceptionManager().handleException(e);
-                    return;
+                    return null;
                 }
             }
+            return mcaFile;
         } finally {
-            fileCreationLock.unlock();
-        }
-
-        try {
-            final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
-
-            chunkData.putInt("DataVersion", MinecraftServer.DATA_VERSION);
-            chunkData.putInt("xPos", chunkX);
-            chunkData.putInt("zPos", chunkZ);
-            chunkData.putInt("yPos", chunk.getMinSection());
-            chunkData.putString("status", "minecraft:full");
-            chunkData.putLong("LastUpdate", chunk.getInstance().getWorldAge());
-
-            saveSectionData(chunk, chunkData);
-
-            mcaFile.writeChunkData(chunkX, chunkZ, chunkData.build());
-        } catch (IOException e) {
-            LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
-            MinecraftServer.getExceptionManager().handleException(e);
+            perRegionLoadedChunksLock.unlock();
         }
     }
 
@@ -524,24 +648,65 @@ public class AnvilLoader implements IChunkLoader {
             if (chunks != null) { // if null, trying to unload a chunk from a region that was not created by the AnvilLoader
                 // don't check return value, trying to unload a chunk not created by the AnvilLoader is valid
                 chunks.remove(new IntIntImmutablePair(chunk.getChunkX(), chunk.getChunkZ()));
-
-                if (chunks.isEmpty()) {
-                    perRegionLoadedChunks.remove(regionKey);
-                    RegionFile regionFile = alreadyLoaded.remove(RegionFile.getFileName(regionX, regionZ));
-                    if (regionFile != null) {
-                        try {
-                            regionFile.close();
-                        } catch (IOException e) {
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        }
-                    }
-                }
+                closeRegionIfUnused(regionKey);
             }
         } finally {
             perRegionLoadedChunksLock.unlock();
         }
     }
 
+    /**
+     * Prevents a region file from being closed until {@link #releaseRegion(int, int)}.
+     */
+    void acquireRegion(int regionX, int regionZ) {
+        perRegionLoadedChunksLock.lock();
+        try {
+            regionUsers.addTo(new IntIntImmutablePair(regionX, regionZ), 1);
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
+    }
+
+    /**
+     * Releases a region file acquired to write chunks, closing it if none of its chunks are loaded.
+     */
+    void releaseRegion(int regionX, int regionZ) {
+        final IntIntImmutablePair regionKey = new IntIntImmutablePair(regionX, regionZ);
+        perRegionLoadedChunksLock.lock();
+        try {
+            decrementRegionUsers(regionKey);
+            closeRegionIfUnused(regionKey);
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
+    }
+
+    private void decrementRegionUsers(IntIntImmutablePair regionKey) {
+        perRegionLoadedChunksLock.lock();
+        try {
+            // Returns the previous count
+            if (regionUsers.addTo(regionKey, -1) == 1) regionUsers.removeInt(regionKey);
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
+    }
+
+    private void closeRegionIfUnused(IntIntImmutablePair regionKey) {
+        assert perRegionLoadedChunksLock.isHeldByCurrentThread();
+        if (regionUsers.containsKey(regionKey)) return;
+        Set<IntIntImmutablePair> chunks = perRegionLoadedChunks.get(regionKey);
+        if (chunks == null || !chunks.isEmpty()) return;
+        perRegionLoadedChunks.remove(regionKey);
+        RegionFile regionFile = alreadyLoaded.remove(RegionFile.getFileName(regionKey.leftInt(), regionKey.rightInt()));
+        if (regionFile != null) {
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
     @Override
     public boolean supportsParallelLoading() {
         return true;
@@ -0,0 +1,202 @@
+package net.minestom.server.instance.anvil;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind pipeline used by {@link AnvilLoader} to save chunks in the background.
+ * <p>
+ * Chunks are snapshot on the saving thread, then encoded and compressed on a bounded pool.
+ * Encoded chunks are written by a single thread, sorted by region and position.
+ * A chunk is never encoded twice concurrently, saves received in the meantime are coalesced into the next write.
+ */
+final class ChunkSaveQueue {
+    private static final AtomicInteger QUEUE_COUNTER = new AtomicInteger();
+    private static final Comparator<EncodedChunk> WRITE_ORDER = Comparator
+            .comparingInt((EncodedChunk chunk) -> CoordConversion.chunkToRegion(chunk.chunkX()))
+            .thenComparingInt(chunk -> CoordConversion.chunkToRegion(chunk.chunkZ()))
+            .thenComparingInt(chunk -> CoordConversion.chunkToRegionLocal(chunk.chunkZ()))
+            .thenComparingInt(chunk -> CoordConversion.chunkToRegionLocal(chunk.chunkX()));
+
+    private final AnvilLoader loader;
+    private final ChunkCompression compression;
+    private final ExecutorService encoders;
+    private final ExecutorService writer;
+
+    private final Map<Long, PendingSave> pending = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<EncodedChunk> encoded = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    ChunkSaveQueue(@NotNull AnvilLoader loader, @NotNull ChunkCompression compression, int threads) {
+        this.loader = loader;
+        this.compression = compression;
+        final int id = QUEUE_COUNTER.getAndIncrement();
+        this.encoders = Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon()
+                .name("Ms-ChunkSave-" + id + "-", 0).factory());
+        this.writer = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon()
+                .name("Ms-ChunkWrite-" + id).factory());
+    }
+
+    void save(@NotNull Chunk chunk) {
+        Check.stateCondition(encoders.isShutdown(), "The chunk save queue is closed");
+        final int chunkX = chunk.getChunkX();
+        final int chunkZ = chunk.getChunkZ();
+        final Chunk snapshot;
+        synchronized (chunk) {
+            snapshot = chunk.copy(chunk.getInstance(), chunkX, chunkZ);
+        }
+        final long worldAge = chunk.getInstance().getWorldAge();
+
+        final long key = CoordConversion.chunkIndex(chunkX, chunkZ);
+        final boolean[] submit = new boolean[1];
+        this.pending.compute(key, (k, save) -> {
+            if (save == null) save = new PendingSave();
+            final CompletableFuture<Void> future;
+            if (save.next != null) {
+                // Coalesce with the save not yet encoded
+                future = save.next.future();
+            } else {
+                future = new CompletableFuture<>();
+                this.inFlight.add(future);
+                future.whenComplete((v, throwable) -> this.inFlight.remove(future));
+            }
+            save.next = new Snapshot(snapshot, worldAge, future);
+            save.latest = future;
+            if (!save.running) {
+                save.running = true;
+                submit[0] = true;
+            }
+            return save;
+        });
+        if (submit[0]) encoders.execute(() -> encode(key));
+    }
+
+    @NotNull CompletableFuture<Void> flush() {
+        return CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Waits for the last save of a chunk to be written, if it is not yet.
+     * <p>
+     * Used before reading the chunk back, the region file would otherwise contain an older version.
+     */
+    void awaitSave(int chunkX, int chunkZ) {
+        final CompletableFuture<?>[] latest = new CompletableFuture[1];
+        this.pending.computeIfPresent(CoordConversion.chunkIndex(chunkX, chunkZ), (k, save) -> {
+            latest[0] = save.latest;
+            return save;
+        });
+        // Failed saves are already reported
+        if (latest[0] != null) latest[0].handle((v, throwable) -> null).join();
+    }
+
+    /**
+     * Waits for the pending saves to be written, then stops the encoding and writing threads.
+     */
+    void close() {
+        // Failed saves are already reported
+        flush().handle((v, throwable) -> null).join();
+        // Encoders schedule the writes, stop them first
+        encoders.close();
+        writer.close();
+    }
+
+    private void encode(long key) {
+        final Snapshot[] taken = new Snapshot[1];
+        this.pending.computeIfPresent(key, (k, save) -> {
+            taken[0] = save.next;
+            save.next = null;
+            return save;
+        });
+        final Snapshot snapshot = taken[0];
+        final Chunk chunk = snapshot.chunk();
+        final CompletableFuture<Void> future = snapshot.future();
+
+        final byte[] data;
+        try {
+            data = RegionFile.compress(loader.encodeChunk(chunk, snapshot.worldAge()), compression);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            future.completeExceptionally(e);
+            completed(key);
+            return;
+        }
+        encoded.add(new EncodedChunk(key, chunk.getChunkX(), chunk.getChunkZ(), data, future));
+        if (writeScheduled.compareAndSet(false, true)) writer.execute(this::write);
+    }
+
+    private void write() {
+        writeScheduled.set(false);
+        List<EncodedChunk> chunks = new ArrayList<>();
+        EncodedChunk chunk;
+        while ((chunk = encoded.poll()) != null) chunks.add(chunk);
+        if (chunks.isEmpty()) return;
+        chunks.sort(WRITE_ORDER);
+
+        // Hold the region file while writing its chunks, so it is not closed by an unloaded chunk
+        long currentRegion = Long.MIN_VALUE;
+        for (EncodedChunk encodedChunk : chunks) {
+            final int regionX = CoordConversion.chunkToRegion(encodedChunk.chunkX());
+            final int regionZ = CoordConversion.chunkToRegion(encodedChunk.chunkZ());
+            final long region = CoordConversion.chunkIndex(regionX, regionZ);
+            if (currentRegion != region) {
+                if (currentRegion != Long.MIN_VALUE) releaseRegion(currentRegion);
+                loader.acquireRegion(regionX, regionZ);
+                currentRegion = region;
+            }
+            try {
+                loader.writeEncodedChunk(encodedChunk.chunkX(), encodedChunk.chunkZ(), encodedChunk.data());
+                encodedChunk.future().complete(null);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                encodedChunk.future().completeExceptionally(e);
+            }
+            completed(encodedChunk.key());
+        }
+        releaseRegion(currentRegion);
+    }
+
+    private void releaseRegion(long region) {
+        loader.releaseRegion(CoordConversion.chunkIndexGetX(region), CoordConversion.chunkIndexGetZ(region));
+    }
+
+    private void completed(long key) {
+        final boolean[] resubmit = new boolean[1];
+        this.pending.computeIfPresent(key, (k, save) -> {
+            if (save.next != null) {
+                // Saved again while being encoded or written
+                resubmit[0] = true;
+                return save;
+            }
+            return null;
+        });
+        if (resubmit[0]) encoders.execute(() -> encode(key));
+    }
+
+    // Only accessed inside map computations
+    private static final class PendingSave {
+        Snapshot next;
+        // Completed once every save received so far is written
+        CompletableFuture<Void> latest;
+        boolean running;
+    }
+
+    private record Snapshot(Chunk chunk, long worldAge, CompletableFuture<Void> future) {
+    }
+
+    private record EncodedChunk(long key, int chunkX, int chunkZ, byte[] data, CompletableFuture<Void> future) {
+    }
+}
@@ -11,14 +11,26 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Implements a thread-safe reader and writer for Minecraft region files.
+ * <p>
+ * The header is memory mapped and chunk sectors are accessed with positional reads and writes,
+ * so that different chunks can be read and written in parallel. Each chunk has its own lock preventing its sectors
+ * from being freed while being read, sector allocation is the only operation locking the whole file.
  *
  * @see <a href="https://minecraft.wiki/w/Region_file_format">Region file format</a>
  * @see <a href="https://github.com/Minestom/Hephaistos/blob/master/common/src/main/kotlin/org/jglrxavpok/hephaistos/mca/RegionFile.kt">Hephaistos implementation</a>
@@ -29,9 +41,7 @@ final class RegionFile implements AutoCloseable {
     private static final int SECTOR_SIZE = 4096;
     private static final int SECTOR_1MB = 1024 * 1024 / SECTOR_SIZE;
     private static final int HEADER_LENGTH = MAX_ENTRY_COUNT * 2 * 4; // 2 4-byte fields per entry
-    private static final int CHUNK_HEADER_LENGTH = 4 + 1; // Length + Compression type (todo non constant to support custom compression)
-
-    private static final int COMPRESSION_ZLIB = 2;
+    private static final int CHUNK_HEADER_LENGTH = 4 + 1; // Length + Compression type
 
     private static final BinaryTagIO.Reader TAG_READER = BinaryTagIO.unlimitedReader();
     private static final BinaryTagIO.Writer TAG_WRITER = BinaryTagIO.writer();
@@ -40,92 +50,138 @@ final class RegionFile implements AutoCloseable {
         return "r." + regionX + "." + regionZ + ".mca";
     }
 
-    private final ReentrantLock lock = new ReentrantLock();
-    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final ChunkCompression compression;
+
+    private final AtomicIntegerArray locations = new AtomicIntegerArray(MAX_ENTRY_COUNT);
+    private final ReentrantReadWriteLock[] chunkLocks = new ReentrantReadWriteLock[MAX_ENTRY_COUNT];
 
-    private final int[] locations = new int[MAX_ENTRY_COUNT];
-    private final int[] timestamps = new int[MAX_ENTRY_COUNT];
+    // Guards sector allocation
+    private final ReentrantLock allocationLock = new ReentrantLock();
     private final BooleanList freeSectors = new BooleanArrayList(2);
 
     public RegionFile(@NotNull Path path) throws IOException {
-        this.file = new RandomAccessFile(path.toFile(), "rw");
+        this(path, ChunkCompression.ZLIB);
+    }
+
+    /**
+     * Opens or creates a region file.
+     *
+     * @param path        the region file path
+     * @param compression the compression used for chunks written to this file, reads support all schemes
+     */
+    public RegionFile(@NotNull Path path, @NotNull ChunkCompression compression) throws IOException {
+        this.compression = compression;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        for (int i = 0; i < MAX_ENTRY_COUNT; i++) chunkLocks[i] = new ReentrantReadWriteLock();
+
+        if (channel.size() < HEADER_LENGTH) {
+            // new file, fill in data
+            writeFully(ByteBuffer.allocate(HEADER_LENGTH), 0);
+        }
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_LENGTH);
 
         readHeader();
     }
 
     public boolean hasChunkData(int chunkX, int chunkZ) {
-        lock.lock();
-        try {
-            return locations[getChunkIndex(chunkX, chunkZ)] != 0;
-        } finally {
-            lock.unlock();
-        }
+        return locations.get(getChunkIndex(chunkX, chunkZ)) != 0;
     }
 
     public @Nullable CompoundBinaryTag readChunkData(int chunkX, int chunkZ) throws IOException {
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        final byte[] data;
+        final int compressionType;
+        var lock = chunkLocks[chunkIndex].readLock();
         lock.lock();
         try {
-            if (!hasChunkData(chunkX, chunkZ)) return null;
-
-            int location = locations[getChunkIndex(chunkX, chunkZ)];
-            file.seek((long) (location >> 8) * SECTOR_SIZE); // Move to start of first sector
-            int length = file.readInt();
-            int compressionType = file.readByte();
-            BinaryTagIO.Compression compression = switch (compressionType) {
-                case 1 -> BinaryTagIO.Compression.GZIP;
-                case COMPRESSION_ZLIB -> BinaryTagIO.Compression.ZLIB;
-                case 3 -> BinaryTagIO.Compression.NONE;
-                default -> throw new IOException("Unsupported compression type: " + compressionType);
-            };
+            final int location = locations.get(chunkIndex);
+            if (location == 0) return null;
 
-            // Read the raw content
-            byte[] data = new byte[length - 1];
-            file.read(data);
+            final long position = (long) (location >> 8) * SECTOR_SIZE; // Start of first sector
+            ByteBuffer chunkHeader = ByteBuffer.allocate(CHUNK_HEADER_LENGTH);
+            readFully(chunkHeader, position);
+            final int length = chunkHeader.getInt(0);
+            compressionType = chunkHeader.get(4);
 
-            // Parse it as a compound tag
-            return TAG_READER.read(new ByteArrayInputStream(data), compression);
+            // Read the raw content
+            data = new byte[length - 1];
+            readFully(ByteBuffer.wrap(data), position + CHUNK_HEADER_LENGTH);
         } finally {
             lock.unlock();
         }
+
+        final ChunkCompression compression = ChunkCompression.fromId(compressionType);
+        if (compression == null) throw new IOException("Unsupported compression type: " + compressionType);
+        // Parse it as a compound tag
+        try (InputStream input = compression.decompress(new ByteArrayInputStream(data))) {
+            return TAG_READER.read(input, BinaryTagIO.Compression.NONE);
+        }
     }
 
     public void writeChunkData(int chunkX, int chunkZ, @NotNull CompoundBinaryTag data) throws IOException {
-        // Write the data (compressed)
+        writeChunkData(chunkX, chunkZ, compression, compress(data, compression));
+    }
+
+    /**
+     * Compresses chunk data, without touching any region file.
+     *
+     * @param data        the chunk data
+     * @param compression the compression to use
+     * @return the compressed data, to be written with {@link #writeChunkData(int, int, ChunkCompression, byte[])}
+     */
+    static byte @NotNull [] compress(@NotNull CompoundBinaryTag data, @NotNull ChunkCompression compression) throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        TAG_WRITER.writeNamed(Map.entry("", data), out, BinaryTagIO.Compression.ZLIB);
-        byte[] dataBytes = out.toByteArray();
+        try (OutputStream output = compression.compress(out)) {
+            TAG_WRITER.writeNamed(Map.entry("", data), output, BinaryTagIO.Compression.NONE);
+        }
+        return out.toByteArray();
+    }
+
+    void writeChunkData(int chunkX, int chunkZ, @NotNull ChunkCompression compression, byte @NotNull [] dataBytes) throws IOException {
         int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
 
         int sectorCount = (int) Math.ceil(chunkLength / (double) SECTOR_SIZE);
         Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
 
+        // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
+        final int firstSector;
+        allocationLock.lock();
+        try {
+            int sector = findFreeSectors(sectorCount);
+            if (sector == -1) sector = allocSectors(sectorCount);
+            firstSector = sector;
+            markLocation((firstSector << 8) | sectorCount, false);
+        } finally {
+            allocationLock.unlock();
+        }
+        final int newLocation = (firstSector << 8) | sectorCount;
+
+        // Write the chunk data, the new sectors are not visible to readers yet
+        ByteBuffer buffer = ByteBuffer.allocate(chunkLength);
+        buffer.putInt(dataBytes.length + 1); // Length includes the compression type but not itself
+        buffer.put((byte) compression.id());
+        buffer.put(dataBytes);
+        buffer.flip();
+        writeFully(buffer, (long) firstSector * SECTOR_SIZE);
+
+        // Swap the location, waiting for readers of the old sectors to complete
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        var lock = chunkLocks[chunkIndex].writeLock();
         lock.lock();
         try {
-            // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
-            int chunkIndex = getChunkIndex(chunkX, chunkZ);
-            int oldLocation = locations[chunkIndex];
-
-            // Find a new location
-            int firstSector = findFreeSectors(sectorCount);
-            if (firstSector == -1) {
-                firstSector = allocSectors(sectorCount);
+            final int oldLocation = locations.getAndSet(chunkIndex, newLocation);
+            header.putInt(chunkIndex * 4, newLocation);
+            header.putInt(MAX_ENTRY_COUNT * 4 + chunkIndex * 4, (int) (System.currentTimeMillis() / 1000));
+            if (oldLocation != 0) {
+                allocationLock.lock();
+                try {
+                    markLocation(oldLocation, true);
+                } finally {
+                    allocationLock.unlock();
+                }
             }
-            int newLocation = (firstSector << 8) | sectorCount;
-
-            // Mark the sectors as used & free the old sectors
-            markLocation(oldLocation, true);
-            markLocation(newLocation, false);
-
-            // Write the chunk data
-            file.seek((long) firstSector * SECTOR_SIZE);
-            file.writeInt(chunkLength);
-            file.writeByte(COMPRESSION_ZLIB);
-            file.write(dataBytes);
-
-            // Update the header and write it
-            locations[chunkIndex] = newLocation;
-            timestamps[chunkIndex] = (int) (System.currentTimeMillis() / 1000);
-            writeHeader();
         } finally {
             lock.unlock();
         }
@@ -133,7 +189,8 @@ final class RegionFile implements AutoCloseable {
 
     @Override
     public void close() throws IOException {
-        file.close();
+        header.force();
+        channel.close();
     }
 
     private int getChunkIndex(int chunkX, int chunkZ) {
@@ -141,42 +198,21 @@ final class RegionFile implements AutoCloseable {
     }
 
     private void readHeader() throws IOException {
-        file.seek(0);
-        if (file.length() < HEADER_LENGTH) {
-            // new file, fill in data
-            file.write(new byte[HEADER_LENGTH]);
-        }
-
         //todo: addPadding()
 
-        final long totalSectors = ((file.length() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
+        final long totalSectors = ((channel.size() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
         for (int i = 0; i < totalSectors; i++) freeSectors.add(true);
         freeSectors.set(0, false); // First sector is locations
         freeSectors.set(1, false); // Second sector is timestamps
 
-        // Read locations
-        file.seek(0);
+        // Read locations, timestamps are only written
         for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
-            int location = locations[i] = file.readInt();
+            final int location = header.getInt(i * 4);
+            locations.set(i, location);
             if (location != 0) {
                 markLocation(location, false);
             }
         }
-
-        // Read timestamps
-        for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
-            timestamps[i] = file.readInt();
-        }
-    }
-
-    private void writeHeader() throws IOException {
-        file.seek(0);
-        for (int location : locations) {
-            file.writeInt(location);
-        }
-        for (int timestamp : timestamps) {
-            file.writeInt(timestamp);
-        }
     }
 
     private int findFreeSectors(int length) {
@@ -194,16 +230,11 @@ final class RegionFile implements AutoCloseable {
     }
 
     private int allocSectors(int count) throws IOException {
-        var eof = file.length();
-        file.seek(eof);
-
-        byte[] emptySector = new byte[SECTOR_SIZE];
-        for (int i = 0; i < count; i++) {
-            freeSectors.add(true);
-            file.write(emptySector);
-        }
-
-        return (int) (eof / SECTOR_SIZE);
+        // Sectors are appended after the last known one, the file may not end on a sector boundary
+        final int firstSector = freeSectors.size();
+        writeFully(ByteBuffer.allocate(count * SECTOR_SIZE), (long) firstSector * SECTOR_SIZE);
+        for (int i = 0; i < count; i++) freeSectors.add(true);
+        return firstSector;
     }
 
     private void markLocation(int location, boolean free) {
@@ -214,4 +245,18 @@ final class RegionFile implements AutoCloseable {
             freeSectors.set(i, free);
         }
     }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read == -1) throw new EOFException("Unexpected end of region file");
+            position += read;
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
 }
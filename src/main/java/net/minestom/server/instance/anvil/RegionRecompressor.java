@@ -0,0 +1,98 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Offline tool re-encoding every chunk of a region folder with another {@link ChunkCompression}.
+ * <p>
+ * The world must be offline: region files are replaced by moving the re-encoded file over them,
+ * which fails on Windows if they are opened, and loses the writes of an {@link AnvilLoader} using them elsewhere.
+ * Can be run with {@code java net.minestom.server.instance.anvil.RegionRecompressor <region folder> <compression>}.
+ */
+public final class RegionRecompressor {
+    private final static Logger LOGGER = LoggerFactory.getLogger(RegionRecompressor.class);
+
+    private static final int REGION_SIZE = 32;
+
+    private RegionRecompressor() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            LOGGER.error("Usage: RegionRecompressor <region folder> <gzip|zlib|none|lz4>");
+            return;
+        }
+        final ChunkCompression compression;
+        try {
+            compression = ChunkCompression.valueOf(args[1].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Unknown compression {}, expected one of gzip, zlib, none or lz4", args[1]);
+            return;
+        }
+        recompressFolder(Path.of(args[0]), compression);
+    }
+
+    /**
+     * Re-encodes all the region files ({@code .mca}) of a folder, in parallel.
+     *
+     * @param regionFolder the folder containing the region files, usually {@code <world>/region}
+     * @param compression  the new compression
+     * @throws IOException if a region file cannot be read or written
+     */
+    public static void recompressFolder(@NotNull Path regionFolder, @NotNull ChunkCompression compression) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> stream = Files.list(regionFolder)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(".mca")).toList();
+        }
+        try {
+            files.parallelStream().forEach(path -> {
+                try {
+                    recompress(path, compression);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Re-encodes a single region file. The new file is written next to the original and then moved over it,
+     * the region file must not be opened by an {@link AnvilLoader}.
+     *
+     * @param regionPath  the region file
+     * @param compression the new compression
+     * @throws IOException if the region file cannot be read or written
+     */
+    public static void recompress(@NotNull Path regionPath, @NotNull ChunkCompression compression) throws IOException {
+        final Path tempPath = regionPath.resolveSibling(regionPath.getFileName() + ".tmp");
+        Files.deleteIfExists(tempPath);
+        int count = 0;
+        try (RegionFile source = new RegionFile(regionPath);
+             RegionFile target = new RegionFile(tempPath, compression)) {
+            for (int chunkZ = 0; chunkZ < REGION_SIZE; chunkZ++) {
+                for (int chunkX = 0; chunkX < REGION_SIZE; chunkX++) {
+                    final CompoundBinaryTag data = source.readChunkData(chunkX, chunkZ);
+                    if (data == null) continue;
+                    target.writeChunkData(chunkX, chunkZ, data);
+                    count++;
+                }
+            }
+        }
+        Files.move(tempPath, regionPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.debug("Recompressed {} chunks of {} with {}", count, regionPath, compression);
+    }
+}
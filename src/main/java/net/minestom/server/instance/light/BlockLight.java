@@ -30,7 +30,7 @@ final class BlockLight implements Light {
     }
 
     static ShortArrayFIFOQueue buildInternalQueue(Palette blockPalette) {
-        ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        ShortArrayFIFOQueue lightSources = LightCompute.queue();
         // Apply section light
         blockPalette.getAllPresent((x, y, z, stateId) -> {
             final Block block = Block.fromStateId((short) stateId);
@@ -49,7 +49,7 @@ final class BlockLight implements Light {
                                                    Point[] neighbors, byte[] content,
                                                    LightLookup lightLookup,
                                                    PaletteLookup paletteLookup) {
-        ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        ShortArrayFIFOQueue lightSources = LightCompute.queue();
 
         for (int i = 0; i < neighbors.length; i++) {
             final BlockFace face = BlockFace.values()[i];
@@ -196,8 +196,8 @@ final class BlockLight implements Light {
             return Set.of();
         }
         ShortArrayFIFOQueue queue = buildExternalQueue(blockPalette, neighbors, content, lightLookup, paletteLookup);
-        final byte[] contentPropagationTemp = LightCompute.compute(blockPalette, queue);
-        this.contentPropagationSwap = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
+        final byte[] contentPropagationTemp = LightCompute.computeTemporary(blockPalette, queue);
+        this.contentPropagationSwap = LightCompute.bakeTemporary(contentPropagationSwap, contentPropagationTemp);
         // Propagate changes to neighbors and self
         Set<Point> toUpdate = new HashSet<>();
         for (int i = 0; i < neighbors.length; i++) {
@@ -23,6 +23,26 @@ public final class LightCompute {
         Arrays.fill(CONTENT_FULLY_LIT, (byte) -1);
     }
 
+    // Buffers reused by the relight workers, a section is always computed by a single thread
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private record Scratch(byte[] light, ShortArrayFIFOQueue sources, ShortArrayFIFOQueue queue) {
+        Scratch() {
+            this(new byte[LIGHT_LENGTH], new ShortArrayFIFOQueue(), new ShortArrayFIFOQueue());
+        }
+    }
+
+    /**
+     * Gets an empty queue owned by the current thread, to be given to {@link #compute(Palette, ShortArrayFIFOQueue)}.
+     *
+     * @return the thread queue, cleared
+     */
+    static @NotNull ShortArrayFIFOQueue queue() {
+        final ShortArrayFIFOQueue queue = SCRATCH.get().queue;
+        queue.clear();
+        return queue;
+    }
+
     /**
      * Computes light in one section
      * <p>
@@ -33,13 +53,25 @@ public final class LightCompute {
      * @return lighting wrapped in Result
      */
     static byte @NotNull [] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+        final byte[] result = computeTemporary(blockPalette, lightPre);
+        return result == EMPTY_CONTENT ? EMPTY_CONTENT : result.clone();
+    }
+
+    /**
+     * Same as {@link #compute(Palette, ShortArrayFIFOQueue)} but the returned array is owned by the current thread,
+     * and only valid until its next computation.
+     */
+    static byte @NotNull [] computeTemporary(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
         if (lightPre.isEmpty()) {
             return EMPTY_CONTENT;
         }
 
-        final byte[] lightArray = new byte[LIGHT_LENGTH];
+        final Scratch scratch = SCRATCH.get();
+        final byte[] lightArray = scratch.light;
+        Arrays.fill(lightArray, (byte) 0);
 
-        final ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        final ShortArrayFIFOQueue lightSources = scratch.sources;
+        lightSources.clear();
 
         while (!lightPre.isEmpty()) {
             final int index = lightPre.dequeueShort();
@@ -62,6 +94,7 @@ public final class LightCompute {
             final int y = (index >> 8) & 15;
             final int lightLevel = (index >> 12) & 15;
             final byte newLightLevel = (byte) (lightLevel - 1);
+            Block currentBlock = null;
 
             for (Direction direction : DIRECTIONS) {
                 final int xO = x + direction.normalX();
@@ -77,7 +110,9 @@ public final class LightCompute {
                 final int newIndex = xO | (zO << 4) | (yO << 8);
 
                 if (getLight(lightArray, newIndex) < newLightLevel) {
-                    final Block currentBlock = Objects.requireNonNullElse(getBlock(blockPalette, x, y, z), Block.AIR);
+                    if (currentBlock == null) {
+                        currentBlock = Objects.requireNonNullElse(getBlock(blockPalette, x, y, z), Block.AIR);
+                    }
                     final Block propagatedBlock = Objects.requireNonNullElse(getBlock(blockPalette, xO, yO, zO), Block.AIR);
 
                     final Shape currentShape = currentBlock.registry().collisionShape();
@@ -145,6 +180,17 @@ public final class LightCompute {
         return lightMax;
     }
 
+    /**
+     * Same as {@link #bake(byte[], byte[])} but never returns {@code temporary},
+     * which may come from {@link #computeTemporary(Palette, ShortArrayFIFOQueue)}.
+     */
+    static byte[] bakeTemporary(byte[] content, byte[] temporary) {
+        if (content == null || content == EMPTY_CONTENT) {
+            return temporary == EMPTY_CONTENT ? EMPTY_CONTENT : temporary.clone();
+        }
+        return bake(content, temporary);
+    }
+
     public static boolean compareBorders(byte[] content, byte[] contentPropagation, byte[] contentPropagationTemp, BlockFace face) {
         if (content == null && contentPropagation == null && contentPropagationTemp == null) return true;
 
@@ -32,7 +32,7 @@ final class SkyLight implements Light {
     }
 
     static ShortArrayFIFOQueue buildInternalQueue(int[] heightmap, int maxY, int sectionY) {
-        ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        ShortArrayFIFOQueue lightSources = LightCompute.queue();
         final int sectionMaxY = (sectionY + 1) * 16 - 1;
         final int sectionMinY = sectionY * 16;
         for (int x = 0; x < 16; x++) {
@@ -51,7 +51,7 @@ final class SkyLight implements Light {
                                                    Point[] neighbors, byte[] content,
                                                    LightLookup lightLookup,
                                                    PaletteLookup paletteLookup) {
-        ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        ShortArrayFIFOQueue lightSources = LightCompute.queue();
 
         for (int i = 0; i < neighbors.length; i++) {
             final BlockFace face = BlockFace.values()[i];
@@ -215,8 +215,8 @@ final class SkyLight implements Light {
         byte[] contentPropagationTemp = CONTENT_FULLY_LIT;
         if (!fullyLit) {
             ShortArrayFIFOQueue queue = buildExternalQueue(blockPalette, neighbors, content, lightLookup, paletteLookup);
-            contentPropagationTemp = LightCompute.compute(blockPalette, queue);
-            this.contentPropagationSwap = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
+            contentPropagationTemp = LightCompute.computeTemporary(blockPalette, queue);
+            this.contentPropagationSwap = LightCompute.bakeTemporary(contentPropagationSwap, contentPropagationTemp);
         } else {
             this.contentPropagationSwap = null;
         }
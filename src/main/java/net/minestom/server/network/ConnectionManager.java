@@ -327,6 +327,20 @@ public final class ConnectionManager {
         configurationPlayers.forEach(Player::interpretPacketQueue);
     }
 
+    /**
+     * Wakes up the writer of every player connection with pending packets.
+     * <p>
+     * Called at the end of each tick when {@link ServerFlag#SIGNALED_FLUSH} is enabled.
+     */
+    @ApiStatus.Internal
+    public void flushConnections() {
+        for (PlayerConnection connection : connectionPlayerMap.keySet()) {
+            if (connection instanceof PlayerSocketConnection socketConnection) {
+                socketConnection.signalFlush();
+            }
+        }
+    }
+
     /**
      * Connects waiting players.
      */
@@ -0,0 +1,108 @@
+package net.minestom.server.network;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+/**
+ * Collects buffer segments to write them to a channel in a single {@link GatheringByteChannel#write(ByteBuffer[])}.
+ * <p>
+ * Segments are resolved lazily on the first write, buffers may therefore be resized in the meantime.
+ * {@link SharedBuffer} references given to the writer are released on {@link #clear()}.
+ * <p>
+ * Not thread-safe, meant to be reused by a single connection writer.
+ */
+@ApiStatus.Internal
+public final class GatheringWriter {
+    private NetworkBuffer[] buffers = new NetworkBuffer[16];
+    private SharedBuffer[] sharedBuffers = new SharedBuffer[16];
+    private long[] indexes = new long[16];
+    private long[] lengths = new long[16];
+    private ByteBuffer[] views = new ByteBuffer[16];
+    private int count;
+    // First view not fully written, -1 if views have not been resolved yet
+    private int offset = -1;
+
+    /**
+     * Appends a segment of an owned buffer.
+     */
+    public void add(@NotNull NetworkBuffer buffer, long index, long length) {
+        if (length == 0) return;
+        append(buffer, null, index, length);
+    }
+
+    /**
+     * Appends a segment of a shared buffer, taking ownership of one of its references.
+     */
+    public void add(@NotNull SharedBuffer buffer, long index, long length) {
+        append(buffer.buffer(), buffer, index, length);
+    }
+
+    private void append(NetworkBuffer buffer, SharedBuffer sharedBuffer, long index, long length) {
+        assert offset == -1 : "Cannot add segments once writing started";
+        final int count = this.count;
+        if (count == buffers.length) {
+            final int newLength = count * 2;
+            this.buffers = Arrays.copyOf(buffers, newLength);
+            this.sharedBuffers = Arrays.copyOf(sharedBuffers, newLength);
+            this.indexes = Arrays.copyOf(indexes, newLength);
+            this.lengths = Arrays.copyOf(lengths, newLength);
+            this.views = Arrays.copyOf(views, newLength);
+        }
+        this.buffers[count] = buffer;
+        this.sharedBuffers[count] = sharedBuffer;
+        this.indexes[count] = index;
+        this.lengths[count] = length;
+        this.count = count + 1;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Writes the gathered segments, can be called again to continue a partial write.
+     *
+     * @param channel the channel to write to
+     * @return true if all segments have been written
+     */
+    public boolean write(@NotNull GatheringByteChannel channel) throws IOException {
+        final int count = this.count;
+        if (offset == -1) {
+            ByteBuffer[] views = this.views;
+            for (int i = 0; i < count; i++) {
+                ByteBuffer view = views[i];
+                if (view == null) {
+                    views[i] = view = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+                }
+                NetworkBufferImpl.slice(buffers[i], view, indexes[i], lengths[i]);
+            }
+            this.offset = 0;
+        }
+        while (offset < count) {
+            final long written = channel.write(views, offset, count - offset);
+            while (offset < count && !views[offset].hasRemaining()) offset++;
+            if (written == 0 && offset < count) return false; // Channel is full
+        }
+        return true;
+    }
+
+    /**
+     * Releases all shared references and resets the writer.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            final SharedBuffer sharedBuffer = sharedBuffers[i];
+            if (sharedBuffer != null) sharedBuffer.release();
+            this.buffers[i] = null;
+            this.sharedBuffers[i] = null;
+        }
+        this.count = 0;
+        this.offset = -1;
+    }
+}
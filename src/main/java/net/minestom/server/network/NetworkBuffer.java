@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 
 public sealed interface NetworkBuffer permits NetworkBufferImpl {
     Type<Unit> UNIT = new NetworkBufferTypeImpl.UnitType();
@@ -162,6 +163,15 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
 
     long compress(long start, long length, NetworkBuffer output);
 
+    /**
+     * Compresses using the given deflater, which is reset afterward.
+     * <p>
+     * {@code output} is resized if needed and allowed, see {@link #compressBound(long)}.
+     *
+     * @throws IndexOutOfBoundsException if the compressed data does not fit in {@code output}
+     */
+    long compress(long start, long length, NetworkBuffer output, Deflater deflater);
+
     long decompress(long start, long length, NetworkBuffer output) throws DataFormatException;
 
     @Nullable Registries registries();
@@ -288,4 +298,14 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         return NetworkBufferImpl.equals(buffer1, buffer2);
     }
+
+    /**
+     * Gets the maximum size of {@code length} bytes once compressed, reached by incompressible data.
+     *
+     * @param length the uncompressed length
+     * @return the maximum compressed length
+     */
+    static long compressBound(long length) {
+        return NetworkBufferImpl.compressBound(length);
+    }
 }
@@ -294,26 +294,46 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
     @Override
     public long compress(long start, long length, NetworkBuffer output) {
+        Deflater deflater = DEFLATER_POOL.get();
+        try {
+            return compress(start, length, output, deflater);
+        } finally {
+            DEFLATER_POOL.add(deflater);
+        }
+    }
+
+    @Override
+    public long compress(long start, long length, NetworkBuffer output, Deflater deflater) {
         assertDummy();
         impl(output).assertReadOnly();
         assertOverflow(start + length);
 
         ByteBuffer input = bufferSlice((int) start, (int) length);
-        ByteBuffer outputBuffer = impl(output).bufferSlice((int) output.writeIndex(), (int) output.writableBytes());
-
-        Deflater deflater = DEFLATER_POOL.get();
+        final long outputStart = output.writeIndex();
         try {
             deflater.setInput(input);
             deflater.finish();
-            final int bytes = deflater.deflate(outputBuffer);
-            deflater.reset();
-            output.advanceWrite(bytes);
-            return bytes;
+            while (true) {
+                ByteBuffer outputBuffer = impl(output).bufferSlice((int) output.writeIndex(), (int) output.writableBytes());
+                output.advanceWrite(deflater.deflate(outputBuffer));
+                if (deflater.finished()) break;
+                // Incompressible data, resize up to the worst case if allowed
+                output.ensureWritable(Math.max(compressBound(length) - (output.writeIndex() - outputStart), 1));
+            }
+            return output.writeIndex() - outputStart;
+        } catch (IndexOutOfBoundsException e) {
+            output.writeIndex(outputStart);
+            throw e;
         } finally {
-            DEFLATER_POOL.add(deflater);
+            deflater.reset();
         }
     }
 
+    static long compressBound(long length) {
+        // Same bound as zlib's compressBound
+        return length + (length >> 12) + (length >> 14) + (length >> 25) + 13;
+    }
+
     @Override
     public long decompress(long start, long length, NetworkBuffer output) throws DataFormatException {
         assertDummy();
@@ -488,6 +508,16 @@ final class NetworkBufferImpl implements NetworkBuffer {
         UNSAFE.copyMemory(srcAddress, dstAddress, length);
     }
 
+    static ByteBuffer slice(NetworkBuffer buffer, ByteBuffer target, long index, long length) {
+        var impl = impl(buffer);
+        impl.assertDummy();
+        Objects.checkFromIndexSize(index, length, impl.capacity);
+        updateAddress(target, impl.address);
+        updateCapacity(target, (int) impl.capacity);
+        target.limit((int) (index + length)).position((int) index);
+        return target;
+    }
+
     public static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         var impl1 = impl(buffer1);
         var impl2 = impl(buffer2);
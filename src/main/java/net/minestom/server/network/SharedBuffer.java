@@ -0,0 +1,68 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.ObjectPool;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only view over a pooled {@link NetworkBuffer}, shared between multiple connections.
+ * <p>
+ * Every holder owns a reference obtained with {@link #retain()} and must {@link #release()} it once done reading.
+ * The buffer goes back to its pool when the last reference is released. A reference that is never released
+ * (e.g. packet dropped on disconnection) only prevents pooling, the memory is still freed by the buffer cleaner.
+ * <p>
+ * Readable bytes range from index 0 to {@link #size()}.
+ */
+@ApiStatus.Internal
+public final class SharedBuffer {
+    private final ObjectPool<NetworkBuffer> pool;
+    private final NetworkBuffer buffer;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private SharedBuffer(ObjectPool<NetworkBuffer> pool, NetworkBuffer buffer) {
+        this.pool = pool;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Shares a buffer, the caller owns the first reference.
+     *
+     * @param pool   the pool to return the buffer to once released
+     * @param buffer the buffer to share, must not be modified afterward
+     * @return the shared buffer
+     */
+    public static @NotNull SharedBuffer share(@NotNull ObjectPool<NetworkBuffer> pool, @NotNull NetworkBuffer buffer) {
+        NetworkBufferImpl.impl(buffer).readOnly = true;
+        return new SharedBuffer(pool, buffer);
+    }
+
+    public @NotNull NetworkBuffer buffer() {
+        return buffer;
+    }
+
+    public long size() {
+        return buffer.writeIndex();
+    }
+
+    public @NotNull SharedBuffer retain() {
+        final int previous = references.getAndIncrement();
+        if (previous <= 0) throw new IllegalStateException("Buffer has already been released");
+        return this;
+    }
+
+    public void release() {
+        final int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            NetworkBufferImpl.impl(buffer).readOnly = false;
+            this.pool.add(buffer);
+        } else if (remaining < 0) {
+            throw new IllegalStateException("Buffer has already been released");
+        }
+    }
+
+    public int references() {
+        return references.get();
+    }
+}
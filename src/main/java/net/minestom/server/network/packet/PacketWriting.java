@@ -1,15 +1,18 @@
 package net.minestom.server.network.packet;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.utils.ObjectPool;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Queue;
 import java.util.function.BiPredicate;
+import java.util.zip.Deflater;
 
 /**
  * Tools to write packets into a {@link NetworkBuffer} for network processing.
@@ -18,6 +21,14 @@ import java.util.function.BiPredicate;
  */
 @ApiStatus.Internal
 public final class PacketWriting {
+    // Serialized packets before compression, see #writeFramedPacket(NetworkBuffer, ConnectionState, ServerPacket, int, Deflater)
+    // Pooled rather than thread-local, every connection has its own writer thread
+    private static final ObjectPool<NetworkBuffer> COMPRESSION_SCRATCH = ObjectPool.pool(
+            () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
+            NetworkBuffer::clear);
+    // Scratch buffers growing past this size are not kept
+    private static final long COMPRESSION_SCRATCH_MAX_SIZE = ServerFlag.POOLED_BUFFER_SIZE * 4L;
+
     public static void writeFramedPacket(@NotNull NetworkBuffer buffer,
                                          @NotNull ConnectionState state,
                                          @NotNull ClientPacket packet,
@@ -32,6 +43,30 @@ public final class PacketWriting {
         writeFramedPacket(buffer, PacketVanilla.SERVER_PACKET_PARSER, state, packet, compressionThreshold);
     }
 
+    /**
+     * Writes a framed packet, compressing it with a deflater owned by the caller.
+     * <p>
+     * The packet is serialized into a pooled scratch buffer and compressed directly into {@code buffer},
+     * instead of being copied back and forth from a pooled buffer.
+     */
+    public static void writeFramedPacket(@NotNull NetworkBuffer buffer,
+                                         @NotNull ConnectionState state,
+                                         @NotNull ServerPacket packet,
+                                         int compressionThreshold,
+                                         @NotNull Deflater deflater) throws IndexOutOfBoundsException {
+        final PacketRegistry.PacketInfo<ServerPacket> packetInfo = PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state).packetInfo(packet);
+        writeFramedPacket(buffer, packetInfo.serializer(), packetInfo.id(), packet, compressionThreshold, deflater);
+    }
+
+    public static <T> void writeFramedPacket(@NotNull NetworkBuffer buffer,
+                                             @NotNull NetworkBuffer.Type<T> type,
+                                             int id, @NotNull T packet,
+                                             int compressionThreshold,
+                                             @NotNull Deflater deflater) throws IndexOutOfBoundsException {
+        if (compressionThreshold <= 0) writeUncompressedFormat(buffer, type, id, packet);
+        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold, deflater);
+    }
+
     public static <T> void writeFramedPacket(@NotNull NetworkBuffer buffer,
                                              @NotNull PacketParser<T> parser,
                                              @NotNull ConnectionState state,
@@ -115,6 +150,35 @@ public final class PacketWriting {
         buffer.writeAt(uncompressedIndex, NetworkBuffer.VAR_INT_3, compressed ? (int) packetSize : 0);
     }
 
+    private static <T> void writeCompressedFormat(NetworkBuffer buffer,
+                                                  NetworkBuffer.Type<T> type,
+                                                  int id, T packet,
+                                                  int compressionThreshold,
+                                                  Deflater deflater) throws IndexOutOfBoundsException {
+        final NetworkBuffer scratch = COMPRESSION_SCRATCH.get();
+        try {
+            scratch.write(NetworkBuffer.VAR_INT, id);
+            scratch.write(type, packet);
+            final long packetSize = scratch.writeIndex();
+            // Compressed format https://wiki.vg/Protocol#With_compression
+            final long compressedIndex = buffer.advanceWrite(3);
+            final long uncompressedIndex = buffer.advanceWrite(3);
+            final boolean compressed = packetSize >= compressionThreshold;
+            if (compressed) {
+                scratch.compress(0, packetSize, buffer, deflater);
+            } else {
+                if (buffer.writableBytes() < packetSize) throw new IndexOutOfBoundsException();
+                NetworkBuffer.copy(scratch, 0, buffer, buffer.writeIndex(), packetSize);
+                buffer.advanceWrite(packetSize);
+            }
+            // Packet header (Packet + Data Length)
+            buffer.writeAt(compressedIndex, NetworkBuffer.VAR_INT_3, (int) (buffer.writeIndex() - uncompressedIndex));
+            buffer.writeAt(uncompressedIndex, NetworkBuffer.VAR_INT_3, compressed ? (int) packetSize : 0);
+        } finally {
+            if (scratch.capacity() <= COMPRESSION_SCRATCH_MAX_SIZE) COMPRESSION_SCRATCH.add(scratch);
+        }
+    }
+
     public static NetworkBuffer allocateTrimmedPacket(@NotNull ConnectionState state,
                                                       @NotNull ClientPacket packet,
                                                       int compressionThreshold) {
@@ -168,7 +232,9 @@ public final class PacketWriting {
             }
             // Add 15 bytes to account for the 3 potential varints in the packet header
             // Packet Length - Data Length - Packet ID
-            tmpBuffer.resize(sizeOf + 15);
+            // Incompressible packets grow slightly when compressed
+            final long size = (compressionThreshold > 0 ? NetworkBuffer.compressBound(sizeOf) : sizeOf) + 15;
+            if (size > tmpBuffer.capacity()) tmpBuffer.resize(size);
             tmpBuffer.writeIndex(0);
             writeFramedPacket(tmpBuffer, serializer, id, packet, compressionThreshold);
             return tmpBuffer.copy(0, tmpBuffer.writeIndex());
@@ -191,7 +257,8 @@ public final class PacketWriting {
             } catch (IndexOutOfBoundsException e) {
                 success = false;
             }
-            assert !success || buffer.writeIndex() > 0;
+            // Packets may be written outside the buffer (e.g. gathered shared buffers)
+            assert !success || buffer.writeIndex() >= index;
             // Poll the packet only if fully written
             if (success) {
                 // Packet fully written
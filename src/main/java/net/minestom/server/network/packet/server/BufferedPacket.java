@@ -1,18 +1,16 @@
 package net.minestom.server.network.packet.server;
 
-import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.SharedBuffer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Represents a buffer to directly write to the network.
  * <p>
- * May contain multiple packets.
+ * May contain multiple packets. The packet owns a reference to the shared buffer,
+ * which is released once written.
  */
 @ApiStatus.Internal
-public record BufferedPacket(@NotNull NetworkBuffer buffer,
+public record BufferedPacket(@NotNull SharedBuffer buffer,
                              long index, long length) implements SendablePacket {
-    public BufferedPacket {
-        buffer.readOnly();
-    }
 }
@@ -16,13 +16,18 @@ import java.util.function.Supplier;
  * Represents a packet that is only computed when required (either due to memory demand or invalidated data)
  * <p>
  * The cache is stored in a {@link SoftReference} and is invalidated when {@link #invalidate()} is called.
+ * The packet is framed and compressed once per compression threshold, and shared by all connections.
  * <p>
  * Packet supplier must be thread-safe.
  */
 @ApiStatus.Internal
 public final class CachedPacket implements SendablePacket {
     private final Supplier<ServerPacket> packetSupplier;
-    private volatile SoftReference<FramedPacket> packet;
+    // Incremented on invalidation, frames built from older data are ignored
+    private volatile int version;
+    private volatile SoftReference<Frame> packet;
+    // Same packet framed without compression, for connections which did not enable it
+    private volatile SoftReference<Frame> uncompressedPacket;
 
     public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
         this.packetSupplier = packetSupplier;
@@ -33,43 +38,71 @@ public final class CachedPacket implements SendablePacket {
     }
 
     public void invalidate() {
+        this.version++;
         this.packet = null;
+        this.uncompressedPacket = null;
     }
 
     public @NotNull ServerPacket packet(@NotNull ConnectionState state) {
-        FramedPacket cache = updatedCache(state);
+        FramedPacket cache = updatedCache(state, MinecraftServer.getCompressionThreshold());
         return cache != null ? cache.packet() : packetSupplier.get();
     }
 
     public @Nullable NetworkBuffer body(@NotNull ConnectionState state) {
-        FramedPacket cache = updatedCache(state);
+        return body(state, MinecraftServer.getCompressionThreshold());
+    }
+
+    /**
+     * Gets the framed packet, compressed with the given threshold.
+     *
+     * @param state                the connection state
+     * @param compressionThreshold the compression threshold, 0 if the connection does not use compression
+     * @return the framed packet, null if packet caching is disabled
+     */
+    public @Nullable NetworkBuffer body(@NotNull ConnectionState state, int compressionThreshold) {
+        FramedPacket cache = updatedCache(state, compressionThreshold);
         return cache != null ? cache.body() : null;
     }
 
-    private @Nullable FramedPacket updatedCache(@NotNull ConnectionState state) {
+    private @Nullable FramedPacket updatedCache(@NotNull ConnectionState state, int compressionThreshold) {
         if (!ServerFlag.CACHED_PACKET)
             return null;
-        SoftReference<FramedPacket> ref = packet;
-        FramedPacket cache;
-        if (ref == null || (cache = ref.get()) == null) {
-            final ServerPacket packet = packetSupplier.get();
-            final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet,
-                    MinecraftServer.getCompressionThreshold());
-            cache = new FramedPacket(packet, buffer);
-            this.packet = new SoftReference<>(cache);
+        final boolean compressed = compressionThreshold > 0;
+        Frame frame = validFrame(compressed ? packet : uncompressedPacket, compressionThreshold);
+        if (frame != null) return frame.framedPacket();
+        synchronized (this) {
+            // Prevent connections from framing the same packet concurrently
+            frame = validFrame(compressed ? packet : uncompressedPacket, compressionThreshold);
+            if (frame != null) return frame.framedPacket();
+            final int version = this.version;
+            // Reuse the packet framed with the other compression setting
+            final Frame other = validFrame(compressed ? uncompressedPacket : packet, -1);
+            final ServerPacket packet = other != null ? other.framedPacket().packet() : packetSupplier.get();
+            final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet, compressionThreshold);
+            frame = new Frame(version, compressionThreshold, new FramedPacket(packet, buffer));
+            if (compressed) this.packet = new SoftReference<>(frame);
+            else this.uncompressedPacket = new SoftReference<>(frame);
         }
-        return cache;
+        return frame.framedPacket();
+    }
+
+    private @Nullable Frame validFrame(@Nullable SoftReference<Frame> ref, int compressionThreshold) {
+        final Frame frame = ref != null ? ref.get() : null;
+        if (frame == null || frame.version() != version) return null;
+        if (compressionThreshold != -1 && frame.compressionThreshold() != compressionThreshold) return null;
+        return frame;
     }
 
     public boolean isValid() {
-        final SoftReference<FramedPacket> ref = packet;
-        return ref != null && ref.get() != null;
+        return validFrame(packet, -1) != null || validFrame(uncompressedPacket, -1) != null;
     }
 
     @Override
     public String toString() {
-        final SoftReference<FramedPacket> ref = packet;
-        final FramedPacket cache = ref != null ? ref.get() : null;
-        return String.format("CachedPacket{cache=%s}", cache);
+        final Frame frame = validFrame(packet, -1);
+        return String.format("CachedPacket{cache=%s}", frame != null ? frame.framedPacket() : null);
+    }
+
+    private record Frame(int version, int compressionThreshold, FramedPacket framedPacket) {
     }
 }
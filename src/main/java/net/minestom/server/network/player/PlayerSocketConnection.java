@@ -9,7 +9,9 @@ import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.GatheringWriter;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.SharedBuffer;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.PacketReading;
 import net.minestom.server.network.packet.PacketVanilla;
@@ -44,8 +46,11 @@ import java.nio.channels.SocketChannel;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 
 /**
  * Represents a socket connection.
@@ -68,6 +73,8 @@ public class PlayerSocketConnection extends PlayerConnection {
             ClientLoginAcknowledgedPacket.class, // Handle config state
             ClientFinishConfigurationPacket.class // Enter play state
     );
+    // Upper bound for a parked writer, in case a signal is missed
+    private static final long FLUSH_PARK_TIMEOUT = TimeUnit.SECONDS.toNanos(1);
 
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
@@ -85,6 +92,10 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private final NetworkBuffer readBuffer = NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process());
     private final MpscUnboundedXaddArrayQueue<SendablePacket> packetQueue = new MpscUnboundedXaddArrayQueue<>(1024);
+    // Thread running #flushSync, parked while the queue is empty in signaled mode
+    private volatile Thread writerThread;
+    // Only used by the writer thread, freed by its cleaner once the connection is gone
+    private final Deflater deflater = ServerFlag.PACKET_DEFLATER_REUSE ? new Deflater() : null;
 
     private final AtomicLong sentPacketCounter = new AtomicLong();
     // Index where compression starts, linked to `sentPacketCounter`
@@ -203,11 +214,36 @@ public class PlayerSocketConnection extends PlayerConnection {
     @Override
     public void sendPacket(@NotNull SendablePacket packet) {
         this.packetQueue.relaxedOffer(packet);
+        if (ServerFlag.SIGNALED_FLUSH && getConnectionState() != ConnectionState.PLAY) wakeWriter();
     }
 
     @Override
     public void sendPackets(@NotNull Collection<SendablePacket> packets) {
         for (SendablePacket packet : packets) this.packetQueue.relaxedOffer(packet);
+        if (ServerFlag.SIGNALED_FLUSH && getConnectionState() != ConnectionState.PLAY) wakeWriter();
+    }
+
+    /**
+     * Wakes up the writer if packets are waiting to be written.
+     * <p>
+     * Only used when {@link ServerFlag#SIGNALED_FLUSH} is enabled, play packets are then
+     * batched and written once per tick.
+     */
+    @ApiStatus.Internal
+    public void signalFlush() {
+        if (!packetQueue.isEmpty()) wakeWriter();
+    }
+
+    private void wakeWriter() {
+        final Thread writerThread = this.writerThread;
+        if (writerThread != null) LockSupport.unpark(writerThread);
+    }
+
+    @Override
+    public void disconnect() {
+        super.disconnect();
+        // Let the writer exit
+        if (ServerFlag.SIGNALED_FLUSH) wakeWriter();
     }
 
     @Override
@@ -352,7 +388,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         try {
             return switch (packet) {
                 case ServerPacket serverPacket -> {
-                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
+                    writeServerPacket(buffer, state, serverPacket, compressionThreshold);
                     yield true;
                 }
                 case FramedPacket framedPacket -> {
@@ -360,23 +396,34 @@ public class PlayerSocketConnection extends PlayerConnection {
                     yield writeBuffer(buffer, body, 0, body.capacity());
                 }
                 case CachedPacket cachedPacket -> {
-                    final NetworkBuffer body = cachedPacket.body(state);
+                    final NetworkBuffer body = cachedPacket.body(state, compressionThreshold);
                     if (body != null) {
                         yield writeBuffer(buffer, body, 0, body.capacity());
                     } else {
-                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
+                        writeServerPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
                         yield true;
                     }
                 }
                 case LazyPacket lazyPacket -> {
-                    PacketWriting.writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold);
+                    writeServerPacket(buffer, state, lazyPacket.packet(), compressionThreshold);
                     yield true;
                 }
                 case BufferedPacket bufferedPacket -> {
-                    final NetworkBuffer rawBuffer = bufferedPacket.buffer();
+                    final SharedBuffer sharedBuffer = bufferedPacket.buffer();
                     final long index = bufferedPacket.index();
                     final long length = bufferedPacket.length();
-                    yield writeBuffer(buffer, rawBuffer, index, length);
+                    if (encryptionContext == null) {
+                        // Write the shared buffer directly to the socket, after the bytes already in the buffer
+                        final long gatherIndex = this.gatherIndex;
+                        gatheringWriter.add(buffer, gatherIndex, buffer.writeIndex() - gatherIndex);
+                        gatheringWriter.add(sharedBuffer, index, length);
+                        this.gatherIndex = buffer.writeIndex();
+                        yield true;
+                    }
+                    // Encryption happens in place, the shared buffer must be copied
+                    final boolean success = writeBuffer(buffer, sharedBuffer.buffer(), index, length);
+                    if (success) sharedBuffer.release();
+                    yield success;
                 }
             };
         } catch (IndexOutOfBoundsException exception) {
@@ -385,6 +432,15 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    private void writeServerPacket(NetworkBuffer buffer, ConnectionState state, ServerPacket packet, int compressionThreshold) {
+        final Deflater deflater = this.deflater;
+        if (deflater != null) {
+            PacketWriting.writeFramedPacket(buffer, state, packet, compressionThreshold, deflater);
+        } else {
+            PacketWriting.writeFramedPacket(buffer, state, packet, compressionThreshold);
+        }
+    }
+
     private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
         if (buffer.writableBytes() < length) {
             // Not enough space in the buffer
@@ -397,11 +453,17 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private NetworkBuffer writeLeftover = null;
 
+    // Segments of the write buffer and shared buffers to write in a single call
+    private final GatheringWriter gatheringWriter = new GatheringWriter();
+    // Write buffer index from which bytes have not been added to the gathering writer
+    private long gatherIndex;
+    private boolean gatherLeftover;
+
     public void flushSync() throws IOException {
         // Write leftover if any
         NetworkBuffer leftover = this.writeLeftover;
         if (leftover != null) {
-            final boolean success = leftover.writeChannel(channel);
+            final boolean success = gatherLeftover ? writeGathered() : leftover.writeChannel(channel);
             if (success) {
                 this.writeLeftover = null;
                 PacketVanilla.PACKET_POOL.add(leftover);
@@ -412,7 +474,12 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
         // Consume queued packets
         var packetQueue = this.packetQueue;
-        if (packetQueue.isEmpty()) {
+        if (ServerFlag.SIGNALED_FLUSH) {
+            // Park until the end of the tick, or until a packet outside the play state is sent
+            // The thread must be visible before checking the queue to not miss any signal
+            this.writerThread = Thread.currentThread();
+            if (packetQueue.isEmpty() && isOnline()) LockSupport.parkNanos(this, FLUSH_PARK_TIMEOUT);
+        } else if (packetQueue.isEmpty()) {
             try {
                 // Can probably be improved by waking up at the end of the tick
                 // But this work well enough and without additional state.
@@ -423,6 +490,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
         if (!channel.isConnected()) throw new EOFException("Channel is closed");
         NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
+        this.gatherIndex = 0;
         // Write to buffer
         PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
             final boolean compressed = sentPacketCounter.get() > compressionStart;
@@ -431,10 +499,26 @@ public class PlayerSocketConnection extends PlayerConnection {
             return success;
         });
         // Write to channel
-        final boolean success = buffer.writeChannel(channel);
+        final boolean gathered = !gatheringWriter.isEmpty();
+        final boolean success;
+        if (gathered) {
+            gatheringWriter.add(buffer, gatherIndex, buffer.writeIndex() - gatherIndex);
+            success = writeGathered();
+        } else {
+            success = buffer.writeChannel(channel);
+        }
         // Keep the buffer if not fully written
         if (success) PacketVanilla.PACKET_POOL.add(buffer);
-        else this.writeLeftover = buffer;
+        else {
+            this.writeLeftover = buffer;
+            this.gatherLeftover = gathered;
+        }
+    }
+
+    private boolean writeGathered() throws IOException {
+        final boolean success = gatheringWriter.write(channel);
+        if (success) gatheringWriter.clear();
+        return success;
     }
 
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
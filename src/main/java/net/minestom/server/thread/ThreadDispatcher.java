@@ -5,6 +5,7 @@ import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
@@ -25,8 +26,12 @@ import java.util.function.IntFunction;
  * @see AcquirableSource
  */
 public final class ThreadDispatcher<P> {
+    // Minimum tick time difference between two threads to start balancing partitions
+    private static final long BALANCE_MIN_GAP_NANOS = 250_000;
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
+    private final boolean workStealing;
 
     // Partition -> dispatching context
     // Defines how computation is dispatched to the threads
@@ -39,9 +44,10 @@ public final class ThreadDispatcher<P> {
     // Requests consumed at the end of each tick
     private final MessagePassingQueue<DispatchUpdate<P>> updates = new MpscUnboundedArrayQueue<>(1024);
 
-    private ThreadDispatcher(ThreadProvider<P> provider, int threadCount,
+    private ThreadDispatcher(ThreadProvider<P> provider, int threadCount, boolean workStealing,
                              @NotNull IntFunction<? extends TickThread> threadGenerator) {
         this.provider = provider;
+        this.workStealing = workStealing;
         TickThread[] threads = new TickThread[threadCount];
         Arrays.setAll(threads, threadGenerator);
         this.threads = List.of(threads);
@@ -57,7 +63,23 @@ public final class ThreadDispatcher<P> {
      * @param <P> the dispatcher partition type
      */
     public static <P> @NotNull ThreadDispatcher<P> of(@NotNull ThreadProvider<P> provider, int threadCount) {
-        return new ThreadDispatcher<>(provider, threadCount, TickThread::new);
+        return new ThreadDispatcher<>(provider, threadCount, false, TickThread::new);
+    }
+
+    /**
+     * Creates a new ThreadDispatcher where idle threads steal partitions not yet ticked by the other threads,
+     * using default thread names.
+     * <p>
+     * Partitions are still ticked by a single thread at a time, and their elements {@link Acquirable} follow the thread
+     * ticking them. A stolen partition stays assigned to the thread that stole it for the next ticks.
+     *
+     * @param provider the {@link ThreadProvider} instance to be used for defining thread IDs
+     * @param threadCount the number of threads to create for this dispatcher
+     * @return a new ThreadDispatcher instance
+     * @param <P> the dispatcher partition type
+     */
+    public static <P> @NotNull ThreadDispatcher<P> workStealing(@NotNull ThreadProvider<P> provider, int threadCount) {
+        return new ThreadDispatcher<>(provider, threadCount, true, TickThread::new);
     }
 
     /**
@@ -72,7 +94,7 @@ public final class ThreadDispatcher<P> {
      */
     public static <P> @NotNull ThreadDispatcher<P> of(@NotNull ThreadProvider<P> provider,
                                                       @NotNull IntFunction<String> nameGenerator, int threadCount) {
-        return new ThreadDispatcher<>(provider, threadCount, index -> new TickThread(nameGenerator.apply(index)));
+        return new ThreadDispatcher<>(provider, threadCount, false, index -> new TickThread(nameGenerator.apply(index)));
     }
 
     /**
@@ -119,8 +141,12 @@ public final class ThreadDispatcher<P> {
             }
         });
         // Tick all partitions
+        if (workStealing) {
+            tickStealing(time);
+            return;
+        }
         CountDownLatch latch = new CountDownLatch(threads.size());
-        for (TickThread thread : threads) thread.startTick(latch, time);
+        for (TickThread thread : threads) thread.startTick(latch, time, null);
         try {
             latch.await();
         } catch (InterruptedException e) {
@@ -128,6 +154,26 @@ public final class ThreadDispatcher<P> {
         }
     }
 
+    private void tickStealing(long time) {
+        boolean hasWork = false;
+        for (TickThread thread : threads) hasWork |= thread.prepareWork();
+        if (!hasWork) return;
+        // Every thread participates, even without partitions of its own
+        CountDownLatch latch = new CountDownLatch(threads.size());
+        for (TickThread thread : threads) thread.startTick(latch, time, threads);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        // Stolen partitions stay on their new thread
+        for (TickThread thread : threads) {
+            final List<Partition> stolen = thread.stolenPartitions();
+            for (Partition partition : stolen) movePartition(partition, thread);
+            stolen.clear();
+        }
+    }
+
     /**
      * Called at the end of each tick to clear removed tickables, refresh the partition linked to a tickable, and
      * partition threads based on {@link ThreadProvider#findThread(Object)}.
@@ -148,19 +194,15 @@ public final class ThreadDispatcher<P> {
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
                     final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries().remove(partitionEntry);
-                        next.entries().add(partitionEntry);
-                    }
+                    if (next != partitionEntry.thread) movePartition(partitionEntry, next);
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> balancePartitions(nanoTimeout);
         }
     }
 
@@ -172,6 +214,19 @@ public final class ThreadDispatcher<P> {
         refreshThreads(Long.MAX_VALUE);
     }
 
+    /**
+     * Gets the dispatching context of a partition, including its measured tick time.
+     * <p>
+     * Must be called from the thread updating the dispatcher, outside of {@link #updateAndAwait(long)}.
+     *
+     * @param partition the partition
+     * @return the partition context, null if the partition is not registered (yet)
+     */
+    @ApiStatus.Experimental
+    public @Nullable Partition partition(@NotNull P partition) {
+        return partitions.get(partition);
+    }
+
     /**
      * Registers a new partition.
      *
@@ -224,6 +279,59 @@ public final class ThreadDispatcher<P> {
         return threads.get(index);
     }
 
+    private void movePartition(Partition partitionEntry, TickThread next) {
+        partitionEntry.thread.entries().remove(partitionEntry);
+        next.entries().add(partitionEntry);
+        partitionEntry.thread = next;
+        for (Tickable tickable : partitionEntry.elements) {
+            if (tickable instanceof AcquirableSource<?> acquirableSource) {
+                ((AcquirableImpl<?>) acquirableSource.acquirable()).updateThread(next);
+            }
+        }
+    }
+
+    /**
+     * Moves partitions from the slowest thread to the fastest one, based on their average tick time,
+     * until no move reduces the difference between both.
+     */
+    private void balancePartitions(long nanoTimeout) {
+        final int threadCount = threads.size();
+        if (threadCount < 2) return;
+        final long startTime = System.nanoTime();
+        long[] loads = new long[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            for (Partition partition : threads.get(i).entries()) loads[i] += partition.averageTickNanos;
+        }
+        for (int move = 0; move < threadCount * 2; move++) {
+            int slowest = 0, fastest = 0;
+            for (int i = 1; i < threadCount; i++) {
+                if (loads[i] > loads[slowest]) slowest = i;
+                if (loads[i] < loads[fastest]) fastest = i;
+            }
+            final long gap = loads[slowest] - loads[fastest];
+            if (gap < Math.max(BALANCE_MIN_GAP_NANOS, loads[slowest] / 10)) break;
+            // Moving a partition costing more than the gap would only invert the imbalance,
+            // the best candidate is the closest to half of it
+            Partition candidate = null;
+            long candidateDistance = Long.MAX_VALUE;
+            for (Partition partition : threads.get(slowest).entries()) {
+                final long cost = partition.averageTickNanos;
+                if (cost <= 0 || cost >= gap) continue;
+                final long distance = Math.abs(gap / 2 - cost);
+                if (distance < candidateDistance) {
+                    candidate = partition;
+                    candidateDistance = distance;
+                }
+            }
+            if (candidate == null) break;
+            final long cost = candidate.averageTickNanos;
+            movePartition(candidate, threads.get(fastest));
+            loads[slowest] -= cost;
+            loads[fastest] += cost;
+            if (System.nanoTime() - startTime >= nanoTimeout) break;
+        }
+    }
+
     private void signalUpdate(@NotNull DispatchUpdate<P> update) {
         this.updates.relaxedOffer(update);
     }
@@ -284,6 +392,9 @@ public final class ThreadDispatcher<P> {
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        // Written by the ticking thread, read once the tick is over
+        private long lastTickNanos;
+        private long averageTickNanos;
 
         private Partition(TickThread thread) {
             this.thread = thread;
@@ -309,6 +420,29 @@ public final class ThreadDispatcher<P> {
         public @NotNull List<Tickable> elements() {
             return elements;
         }
+
+        /**
+         * Gets the time spent ticking the elements of this partition during the last tick.
+         *
+         * @return the last tick time in nanoseconds
+         */
+        public long lastTickNanos() {
+            return lastTickNanos;
+        }
+
+        /**
+         * Gets the exponential moving average of the time spent ticking the elements of this partition.
+         *
+         * @return the average tick time in nanoseconds
+         */
+        public long averageTickNanos() {
+            return averageTickNanos;
+        }
+
+        void recordTick(long nanos) {
+            this.lastTickNanos = nanos;
+            this.averageTickNanos += (nanos - averageTickNanos) >> 3;
+        }
     }
 
     @ApiStatus.Internal
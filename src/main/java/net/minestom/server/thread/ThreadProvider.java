@@ -19,6 +19,29 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider initially dispatching partitions like {@link #counter()}, then moving them between threads
+     * based on their measured tick time so that every thread spends roughly the same time ticking.
+     *
+     * @return a load balancing provider
+     * @see ThreadDispatcher.Partition#averageTickNanos()
+     */
+    static <T> @NotNull ThreadProvider<T> balanced() {
+        return new ThreadProvider<>() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public int findThread(@NotNull T partition) {
+                return counter.getAndIncrement();
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -50,6 +73,13 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Thread is initially defined once, then partitions are moved by the dispatcher
+         * from the slowest threads to the fastest ones.
+         * <p>
+         * Means that {@link #findThread(Object)} will only be called once for each partition.
+         */
+        BALANCED
     }
 }
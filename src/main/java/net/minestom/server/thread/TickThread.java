@@ -1,7 +1,9 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
+import net.minestom.server.collision.PhysicsBatch;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
 import org.jetbrains.annotations.ApiStatus;
@@ -9,9 +11,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -30,6 +34,16 @@ public final class TickThread extends MinestomThread {
     private long tickNum = 0;
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
 
+    // Work stealing, partitions of the current tick claimed by any thread through the cursor
+    private final AtomicInteger workCursor = new AtomicInteger();
+    private ThreadDispatcher.Partition[] work = new ThreadDispatcher.Partition[0];
+    private int workSize;
+    private List<TickThread> stealTargets;
+    private final List<ThreadDispatcher.Partition> stolen = new ArrayList<>();
+
+    // Movement of the entities in the partition being ticked
+    private final PhysicsBatch physicsBatch = ServerFlag.ENTITY_BATCHED_PHYSICS ? new PhysicsBatch() : null;
+
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
     }
@@ -50,7 +64,8 @@ public final class TickThread extends MinestomThread {
         while (!stop) {
             this.lock.lock();
             try {
-                tick();
+                if (stealTargets != null) tickStealing();
+                else tick();
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
@@ -62,29 +77,101 @@ public final class TickThread extends MinestomThread {
     }
 
     private void tick() {
-        final ReentrantLock lock = this.lock;
-        final long tickTime = this.tickTime;
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
-            final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
-            for (Tickable element : elements) {
-                if (lock.hasQueuedThreads()) {
-                    lock.unlock();
-                    // #acquire() callbacks should be called here
-                    lock.lock();
-                }
-                try {
-                    element.tick(tickTime);
-                } catch (Throwable e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
+            tickPartition(entry);
+        }
+    }
+
+    private void tickStealing() {
+        final List<TickThread> threads = this.stealTargets;
+        final int size = threads.size();
+        final int start = threads.indexOf(this);
+        // Own partitions first, then help the other threads
+        for (int i = 0; i < size; i++) {
+            final TickThread target = threads.get((start + i) % size);
+            ThreadDispatcher.Partition entry;
+            while ((entry = target.claimWork()) != null) {
+                if (entry.thread() != this) takeOwnership(entry);
+                tickPartition(entry);
+            }
+        }
+    }
+
+    private void tickPartition(ThreadDispatcher.Partition entry) {
+        final List<Tickable> elements = entry.elements();
+        if (elements.isEmpty()) {
+            entry.recordTick(0);
+            return;
+        }
+        final ReentrantLock lock = this.lock;
+        final long tickTime = this.tickTime;
+        final long start = System.nanoTime();
+        final PhysicsBatch physicsBatch = this.physicsBatch;
+        if (physicsBatch != null) {
+            try {
+                physicsBatch.simulate(elements);
+            } catch (Throwable e) {
+                physicsBatch.clear();
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        for (Tickable element : elements) {
+            if (lock.hasQueuedThreads()) {
+                lock.unlock();
+                // #acquire() callbacks should be called here
+                lock.lock();
+            }
+            try {
+                element.tick(tickTime);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        if (physicsBatch != null) physicsBatch.clear();
+        entry.recordTick(System.nanoTime() - start);
+    }
+
+    /**
+     * Moves the acquirable elements of a partition owned by another thread to this one, the same way
+     * an element would be acquired.
+     */
+    private void takeOwnership(ThreadDispatcher.Partition entry) {
+        final ReentrantLock previousLock = AcquirableImpl.enter(this, entry.thread());
+        try {
+            for (Tickable element : entry.elements()) {
+                if (element instanceof AcquirableSource<?> acquirableSource) {
+                    ((AcquirableImpl<?>) acquirableSource.acquirable()).updateThread(this);
                 }
             }
+        } finally {
+            AcquirableImpl.leave(previousLock);
         }
+        this.stolen.add(entry);
+    }
+
+    private @Nullable ThreadDispatcher.Partition claimWork() {
+        final int index = workCursor.getAndIncrement();
+        return index < workSize ? work[index] : null;
+    }
+
+    boolean prepareWork() {
+        final int size = entries.size();
+        if (work.length < size) work = new ThreadDispatcher.Partition[Math.max(size, work.length * 2)];
+        else if (size < workSize) Arrays.fill(work, size, workSize, null);
+        for (int i = 0; i < size; i++) work[i] = entries.get(i);
+        this.workSize = size;
+        this.workCursor.set(0); // Publish to the other threads
+        return size > 0;
+    }
+
+    List<ThreadDispatcher.Partition> stolenPartitions() {
+        return stolen;
     }
 
-    void startTick(CountDownLatch latch, long tickTime) {
-        if (stop || entries.isEmpty()) {
+    void startTick(CountDownLatch latch, long tickTime, @Nullable List<TickThread> stealTargets) {
+        this.stealTargets = stealTargets;
+        if (stop || (stealTargets == null && entries.isEmpty())) {
             // Nothing to tick
             latch.countDown();
             return;
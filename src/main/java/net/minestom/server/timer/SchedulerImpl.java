@@ -1,34 +1,34 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import net.minestom.server.MinecraftServer;
+import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
     private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        return thread;
-    });
+    // Duration tasks are ordered in units of 2^20 nanoseconds (~1ms), relative to the class initialization
+    private static final int TIME_UNIT_SHIFT = 20;
+    private static final long TIME_ORIGIN = System.nanoTime();
 
     private final MpscUnboundedArrayQueue<TaskImpl> tasksToExecute = new MpscUnboundedArrayQueue<>(64);
     private final MpscUnboundedArrayQueue<TaskImpl> tickEndTasksToExecute = new MpscUnboundedArrayQueue<>(64);
-    // Tasks scheduled on a certain tick/tick end
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickStartTaskQueue = new Int2ObjectAVLTreeMap<>();
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickEndTaskQueue = new Int2ObjectAVLTreeMap<>();
+    // Tasks waiting to be inserted in a wheel, scheduling threads never lock
+    private final MpscUnboundedArrayQueue<TaskImpl> scheduledTasks = new MpscUnboundedArrayQueue<>(64);
+    // Tasks scheduled on a certain tick/time, allocated on first use
+    private TimingWheel tickStartWheel, tickEndWheel;
+    private TimingWheel timeStartWheel, timeEndWheel;
 
-    private int tickState;
+    private final Consumer<TaskImpl> expireTickStart = tasksToExecute::relaxedOffer;
+    private final Consumer<TaskImpl> expireTickEnd = tickEndTasksToExecute::relaxedOffer;
+    private final MessagePassingQueue.Consumer<TaskImpl> insertTask = this::insertTask;
+
+    private volatile int tickState;
 
     @Override
     public void process() {
@@ -41,24 +41,52 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        processTickTasks(tickStartTaskQueue, tasksToExecute, tickDelta);
+        synchronized (this) {
+            this.tickState += tickDelta;
+            drainScheduledTasks();
+            advance(tickStartWheel, timeStartWheel, expireTickStart);
+        }
+        runTasks(tasksToExecute);
     }
 
     @Override
     public void processTickEnd() {
-        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute, 0);
+        synchronized (this) {
+            drainScheduledTasks();
+            advance(tickEndWheel, timeEndWheel, expireTickEnd);
+        }
+        runTasks(tickEndTasksToExecute);
     }
 
-    private void processTickTasks(Int2ObjectAVLTreeMap<List<TaskImpl>> targetTaskQueue, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!targetTaskQueue.isEmpty() && (tickToProcess = targetTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = targetTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(targetTasksToExecute::relaxedOffer);
+    private void drainScheduledTasks() {
+        if (!scheduledTasks.isEmpty()) scheduledTasks.drain(insertTask);
+    }
+
+    private void insertTask(TaskImpl task) {
+        final boolean tickStart = task.executionType() == ExecutionType.TICK_START;
+        final Consumer<TaskImpl> expired = tickStart ? expireTickStart : expireTickEnd;
+        TimingWheel wheel;
+        if (task.timeDeadline) {
+            wheel = tickStart ? timeStartWheel : timeEndWheel;
+            if (wheel == null) {
+                wheel = new TimingWheel(timeUnit(System.nanoTime()));
+                if (tickStart) this.timeStartWheel = wheel;
+                else this.timeEndWheel = wheel;
+            }
+        } else {
+            wheel = tickStart ? tickStartWheel : tickEndWheel;
+            if (wheel == null) {
+                wheel = new TimingWheel(tickState);
+                if (tickStart) this.tickStartWheel = wheel;
+                else this.tickEndWheel = wheel;
             }
         }
-        runTasks(targetTasksToExecute);
+        wheel.add(task, task.deadline, expired);
+    }
+
+    private void advance(TimingWheel tickWheel, TimingWheel timeWheel, Consumer<TaskImpl> expired) {
+        if (tickWheel != null) tickWheel.advance(tickState, expired);
+        if (timeWheel != null && !timeWheel.isEmpty()) timeWheel.advance(timeUnit(System.nanoTime()), expired);
     }
 
     private void runTasks(MpscUnboundedArrayQueue<TaskImpl> targetQueue) {
@@ -94,6 +122,12 @@ final class SchedulerImpl implements Scheduler {
         }
     }
 
+    private void schedule(TaskImpl task, long deadline, boolean timeDeadline) {
+        task.deadline = deadline;
+        task.timeDeadline = timeDeadline;
+        this.scheduledTasks.offer(task);
+    }
+
     private void handleTask(TaskImpl task) {
         TaskSchedule schedule;
         try {
@@ -105,16 +139,11 @@ final class SchedulerImpl implements Scheduler {
 
         if (schedule instanceof TaskScheduleImpl.DurationSchedule durationSchedule) {
             final Duration duration = durationSchedule.duration();
-            SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+            // Round up, the task must never run early
+            final long deadline = System.nanoTime() + duration.toNanos() + (1L << TIME_UNIT_SHIFT) - 1;
+            schedule(task, timeUnit(deadline), true);
         } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
-            synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
-                var targetTaskQueue = switch (task.executionType()) {
-                    case TICK_START -> tickStartTaskQueue;
-                    case TICK_END -> tickEndTaskQueue;
-                };
-                targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
-            }
+            schedule(task, (long) tickState + tickSchedule.tick(), false);
         } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
             futureSchedule.future().thenRun(() -> safeExecute(task));
         } else if (schedule instanceof TaskScheduleImpl.Park) {
@@ -128,4 +157,8 @@ final class SchedulerImpl implements Scheduler {
             else tasksToExecute.relaxedOffer(task);
         }
     }
+
+    private static long timeUnit(long nanoTime) {
+        return (nanoTime - TIME_ORIGIN) >> TIME_UNIT_SHIFT;
+    }
 }
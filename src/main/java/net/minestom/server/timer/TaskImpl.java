@@ -26,6 +26,12 @@ final class TaskImpl implements Task {
     volatile boolean alive;
     volatile boolean parked;
 
+    // Scheduling state, published through the owner's scheduling queue
+    long deadline;
+    boolean timeDeadline;
+    // Next task in the same timing wheel slot
+    TaskImpl next;
+
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
              @NotNull ExecutionType executionType,
@@ -0,0 +1,119 @@
+package net.minestom.server.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel ordering tasks by a deadline, expressed in abstract units (ticks or time).
+ * <p>
+ * Each level has 64 slots. A task is stored in the level of the highest bit differing between its deadline
+ * and the current unit, and only moves down a level once the wheel reaches its slot.
+ * Insertion is O(1), and advancing only visits occupied slots.
+ * <p>
+ * Tasks are linked through {@link TaskImpl#next}, a task can therefore only be in a single wheel at once.
+ * Not thread-safe.
+ */
+final class TimingWheel {
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOT_COUNT = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 5;
+    // Deadlines further than all the levels, moved down every time the top level wraps
+    private static final int OVERFLOW_SHIFT = LEVEL_BITS * LEVEL_COUNT;
+
+    // Slot arrays are allocated on first use, most wheels only ever use the first level
+    private final TaskImpl[][] slots = new TaskImpl[LEVEL_COUNT][];
+    private final long[] occupied = new long[LEVEL_COUNT];
+    private TaskImpl overflow;
+    private long current;
+    private int size;
+
+    TimingWheel(long current) {
+        this.current = current;
+    }
+
+    long current() {
+        return current;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(@NotNull TaskImpl task, long deadline, @NotNull Consumer<TaskImpl> expired) {
+        if (deadline <= current) {
+            expired.accept(task);
+            return;
+        }
+        task.deadline = deadline;
+        final int level = (63 - Long.numberOfLeadingZeros(deadline ^ current)) / LEVEL_BITS;
+        if (level >= LEVEL_COUNT) {
+            task.next = overflow;
+            this.overflow = task;
+        } else {
+            final int slot = (int) (deadline >>> (level * LEVEL_BITS)) & SLOT_MASK;
+            TaskImpl[] levelSlots = slots[level];
+            if (levelSlots == null) slots[level] = levelSlots = new TaskImpl[SLOT_COUNT];
+            task.next = levelSlots[slot];
+            levelSlots[slot] = task;
+            occupied[level] |= 1L << slot;
+        }
+        this.size++;
+    }
+
+    void advance(long target, @NotNull Consumer<TaskImpl> expired) {
+        while (current < target) {
+            if (size == 0) {
+                this.current = target;
+                return;
+            }
+            // Find the next unit where a slot either expires (first level) or moves down
+            // Occupied slots are always ahead of the current unit in their level
+            long next = Long.MAX_VALUE;
+            int nextLevel = -1;
+            for (int level = 0; level < LEVEL_COUNT; level++) {
+                final long bits = occupied[level];
+                if (bits == 0) continue;
+                final int shift = level * LEVEL_BITS;
+                final long unit = ((current >>> (shift + LEVEL_BITS)) << (shift + LEVEL_BITS)) |
+                        ((long) Long.numberOfTrailingZeros(bits) << shift);
+                if (unit < next) {
+                    next = unit;
+                    nextLevel = level;
+                }
+            }
+            if (overflow != null) {
+                final long unit = ((current >>> OVERFLOW_SHIFT) + 1) << OVERFLOW_SHIFT;
+                if (unit < next) {
+                    next = unit;
+                    nextLevel = LEVEL_COUNT;
+                }
+            }
+            if (next > target) {
+                this.current = target;
+                return;
+            }
+            this.current = next;
+
+            TaskImpl task;
+            if (nextLevel == LEVEL_COUNT) {
+                task = overflow;
+                this.overflow = null;
+            } else {
+                final int slot = (int) (next >>> (nextLevel * LEVEL_BITS)) & SLOT_MASK;
+                task = slots[nextLevel][slot];
+                slots[nextLevel][slot] = null;
+                occupied[nextLevel] &= ~(1L << slot);
+            }
+            // Expire the due tasks, and move the others down
+            while (task != null) {
+                final TaskImpl nextTask = task.next;
+                task.next = null;
+                this.size--;
+                add(task, task.deadline, expired);
+                task = nextTask;
+            }
+        }
+    }
+}
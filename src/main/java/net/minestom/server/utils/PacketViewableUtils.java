@@ -11,6 +11,7 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.SharedBuffer;
 import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.server.BufferedPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
@@ -23,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @ApiStatus.Internal
 public final class PacketViewableUtils {
@@ -74,15 +76,21 @@ public final class PacketViewableUtils {
         prepareViewablePacket(viewable, serverPacket, null);
     }
 
-    private static final class ViewableStorage {
+    static final class ViewableStorage {
         private static final ObjectPool<NetworkBuffer> POOL = ObjectPool.pool(
                 () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
                 NetworkBuffer::clear);
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final NetworkBuffer buffer = POOL.getAndRegister(this);
+        // Swapped on every flush, the previous buffer is shared with the viewers
+        private final AtomicReference<NetworkBuffer> bufferRef = new AtomicReference<>(POOL.get());
 
-        private synchronized void append(ServerPacket serverPacket, @Nullable Player exception) {
+        ViewableStorage() {
+            POOL.register(this, bufferRef);
+        }
+
+        synchronized void append(ServerPacket serverPacket, @Nullable Player exception) {
+            final NetworkBuffer buffer = bufferRef.get();
             final long start = buffer.writeIndex();
             // Viewable storage is only used for play packets, so fine to assume this.
             PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, serverPacket, MinecraftServer.getCompressionThreshold());
@@ -94,22 +102,24 @@ public final class PacketViewableUtils {
             }
         }
 
-        private synchronized void process(Viewable viewable) {
+        synchronized void process(Viewable viewable) {
+            final NetworkBuffer buffer = bufferRef.get();
             if (buffer.writeIndex() == 0) return;
-            NetworkBuffer copy = buffer.copy(0, buffer.writeIndex());
-            copy.readOnly();
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
+            // Hand the buffer over to the viewers without copying it
+            this.bufferRef.set(POOL.get());
+            final SharedBuffer sharedBuffer = SharedBuffer.share(POOL, buffer);
+            viewable.getViewers().forEach(player -> processPlayer(player, sharedBuffer));
+            sharedBuffer.release();
             this.entityIdMap.clear();
         }
 
-        private void processPlayer(Player player, NetworkBuffer buffer) {
-            final long capacity = buffer.capacity();
+        private void processPlayer(Player player, SharedBuffer buffer) {
+            final long size = buffer.size();
             final PlayerConnection connection = player.getPlayerConnection();
             final LongArrayList pairs = entityIdMap.get(player.getEntityId());
             if (pairs == null) {
                 // No range exception, write the whole buffer
-                writeTo(connection, buffer, 0, capacity);
+                writeTo(connection, buffer, 0, size);
                 return;
             }
             // Player has range exception(s)
@@ -122,12 +132,12 @@ public final class PacketViewableUtils {
                 if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
                 lastWrite = (int) offsets; // End = last 32 bits
             }
-            if (capacity != lastWrite) writeTo(connection, buffer, lastWrite, capacity - lastWrite);
+            if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite);
         }
 
-        private static void writeTo(PlayerConnection connection, NetworkBuffer buffer, long offset, long length) {
+        private static void writeTo(PlayerConnection connection, SharedBuffer buffer, long offset, long length) {
             if (connection instanceof PlayerSocketConnection socketConnection) {
-                socketConnection.sendPacket(new BufferedPacket(buffer, offset, length));
+                socketConnection.sendPacket(new BufferedPacket(buffer.retain(), offset, length));
                 return;
             }
             // TODO for non-socket connection
@@ -2,12 +2,15 @@ package net.minestom.server.utils.chunk;
 
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.util.Objects;
+
 @ApiStatus.Internal
 public final class ChunkCache implements Block.Getter {
     private final Instance instance;
@@ -36,6 +39,11 @@ public final class ChunkCache implements Block.Getter {
             this.chunk = chunk = this.instance.getChunk(chunkX, chunkZ);
         }
         if (chunk != null) {
+            if (condition == Condition.TYPE && chunk instanceof DynamicChunk dynamicChunk) {
+                // Block states can be read without the lock, unless a block is being written
+                final int stateId = dynamicChunk.getBlockStateIdOptimistic(x, y, z);
+                if (stateId != -1) return Objects.requireNonNullElse(Block.fromStateId(stateId), Block.AIR);
+            }
             synchronized (chunk) {
                 return chunk.getBlock(x, y, z, condition);
             }
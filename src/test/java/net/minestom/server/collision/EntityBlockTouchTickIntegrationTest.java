@@ -2,11 +2,13 @@ package net.minestom.server.collision;
 
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.utils.NamespaceID;
@@ -14,9 +16,12 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
@@ -195,4 +200,63 @@ public class EntityBlockTouchTickIntegrationTest {
 
         assertEquals(instance, entity.getInstance());
     }
+
+    @Test
+    public void touchableBlocksIndex(Env env) {
+        var instance = env.createFlatInstance();
+        var touchHandler = new BlockHandler() {
+            @Override
+            public void onTouch(@NotNull Touch touch) {
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:touch");
+            }
+        };
+        var otherHandler = new BlockHandler() {
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:other");
+            }
+        };
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+        assertTrue(chunk.getTouchableBlocks().isEmpty());
+
+        // Handlers not overriding onTouch are not indexed
+        instance.setBlock(1, 42, 1, Block.STONE.withHandler(otherHandler));
+        assertTrue(chunk.getTouchableBlocks().isEmpty());
+
+        instance.setBlock(2, 42, 3, Block.STONE.withHandler(touchHandler));
+        assertEquals(Map.of(CoordConversion.chunkBlockIndex(2, 42, 3), Block.STONE.withHandler(touchHandler)),
+                chunk.getTouchableBlocks());
+
+        instance.setBlock(2, 42, 3, Block.STONE);
+        assertTrue(chunk.getTouchableBlocks().isEmpty());
+    }
+
+    @Test
+    public void touchableBlocksCopied(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        var touchHandler = new BlockHandler() {
+            @Override
+            public void onTouch(@NotNull Touch touch) {
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:touch");
+            }
+        };
+        instance.loadChunk(4, 4).join();
+        instance.setBlock(66, 42, 67, Block.STONE.withHandler(touchHandler));
+        var chunk = instance.getChunk(4, 4);
+        assertInstanceOf(LightingChunk.class, chunk);
+
+        var copy = chunk.copy(instance, 4, 4);
+        assertEquals(Map.of(CoordConversion.chunkBlockIndex(66, 42, 67), Block.STONE.withHandler(touchHandler)),
+                copy.getTouchableBlocks());
+    }
 }
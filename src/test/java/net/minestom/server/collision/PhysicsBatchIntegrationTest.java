@@ -0,0 +1,79 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.Tickable;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PhysicsBatchIntegrationTest {
+    @Test
+    public void sameMovementAsEntityPhysics(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        var batched = new Entity(EntityType.ARROW);
+        var regular = new Entity(EntityType.ARROW);
+        batched.setInstance(instance, new Pos(2.5, 45, 2.5)).join();
+        regular.setInstance(instance, new Pos(2.5, 45, 2.5)).join();
+        batched.setVelocity(new Vec(4, 6, 3));
+        regular.setVelocity(new Vec(4, 6, 3));
+
+        PhysicsBatch batch = new PhysicsBatch();
+        final List<Tickable> elements = List.of(batched);
+        // Flies through the air, then lands on the ground through the regular physics
+        for (int i = 0; i < 40; i++) {
+            batch.simulate(elements);
+            batched.tick(0);
+            regular.tick(0);
+            batch.clear();
+            assertEquals(regular.getPosition(), batched.getPosition());
+            assertEquals(regular.getVelocity(), batched.getVelocity());
+            assertEquals(regular.isOnGround(), batched.isOnGround());
+        }
+        assertTrue(batched.isOnGround());
+    }
+
+    @Test
+    public void outdatedResultIgnored(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        var entity = new Entity(EntityType.ARROW);
+        entity.setInstance(instance, new Pos(2.5, 45, 2.5)).join();
+
+        PhysicsBatch batch = new PhysicsBatch();
+        batch.simulate(List.of(entity));
+        // Velocity changed after the simulation, the entity must move up
+        entity.setVelocity(new Vec(0, 20, 0));
+        entity.tick(0);
+        assertTrue(entity.getPosition().y() > 45);
+    }
+
+    @Test
+    public void blockPlacedAfterSimulation(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        var entity = new Entity(EntityType.ARROW);
+        entity.setInstance(instance, new Pos(2.5, 45, 2.5)).join();
+        entity.setVelocity(new Vec(20, 0, 0));
+
+        PhysicsBatch batch = new PhysicsBatch();
+        batch.simulate(List.of(entity));
+        // Block placed in the way after the simulation, the entity must collide with it
+        instance.setBlock(3, 45, 2, Block.STONE);
+        entity.tick(0);
+        batch.clear();
+        assertTrue(entity.getPosition().x() < 3);
+    }
+}
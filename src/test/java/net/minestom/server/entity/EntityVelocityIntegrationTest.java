@@ -37,6 +37,57 @@ public class EntityVelocityIntegrationTest {
                 new Vec(0.0, 40.0, 0.0));
     }
 
+    @Test
+    public void resting(Env env) {
+        var instance = env.createFlatInstance();
+        loadChunks(instance);
+
+        var entity = new Entity(EntityTypes.ZOMBIE);
+        entity.setRestingEnabled(true);
+        entity.setInstance(instance, new Pos(0.5, 40, 0.5)).join();
+        for (int i = 0; i < 20; i++) env.tick();
+        assertTrue(entity.isResting());
+
+        // Velocity wakes the entity up
+        entity.setVelocity(new Vec(0, 5, 0));
+        env.tick();
+        assertFalse(entity.isResting());
+        assertTrue(entity.getPosition().y() > 40);
+
+        for (int i = 0; i < 60; i++) env.tick();
+        assertTrue(entity.isResting());
+        assertEquals(40, entity.getPosition().y());
+
+        // Removing the supporting block wakes the entity up
+        instance.setBlock(0, 39, 0, Block.AIR);
+        env.tick();
+        assertFalse(entity.isResting());
+        env.tick();
+        assertTrue(entity.getPosition().y() < 40);
+    }
+
+    @Test
+    public void restingNoGravity(Env env) {
+        var instance = env.createFlatInstance();
+        loadChunks(instance);
+
+        // Floating hologram
+        var entity = new Entity(EntityTypes.ARMOR_STAND);
+        entity.setRestingEnabled(true);
+        entity.setNoGravity(true);
+        entity.setInstance(instance, new Pos(0.5, 45, 0.5)).join();
+        for (int i = 0; i < 20; i++) env.tick();
+        assertTrue(entity.isResting());
+        assertEquals(45, entity.getPosition().y());
+
+        // Falls once gravity is enabled again
+        entity.setNoGravity(false);
+        env.tick();
+        assertFalse(entity.isResting());
+        env.tick();
+        assertTrue(entity.getPosition().y() < 45);
+    }
+
     @Test
     public void singleKnockback(Env env) {
         var instance = env.createFlatInstance();
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @EnvTest
@@ -209,4 +210,71 @@ public class PathfinderIntegrationTest {
         var snapped = nodeGenerator.gravitySnap(i, -140.74433362614695, 40.58268292446131, 18.87966960447388, zombie.getBoundingBox(), 100);
         assertEquals(40.0, snapped.getAsDouble());
     }
+
+    @Test
+    public void testService(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        zombie.setInstance(i, new Pos(0, 40, 0));
+        i.setBlock(0, 40, 5, Block.STONE);
+        i.setBlock(0, 41, 5, Block.STONE);
+
+        PathfindingService service = new PathfindingService(1, 0);
+        try {
+            Navigator nav = new Navigator(zombie);
+            nav.setPathfindingService(service);
+            nav.setPathTo(new Pos(0, 40, 10));
+            while (nav.getState() == PPath.State.CALCULATING) {
+            }
+
+            final PPath.State state = nav.getState();
+            assertTrue(state == PPath.State.COMPUTED || state == PPath.State.BEST_EFFORT);
+            nav.getNodes().forEach(node -> {
+                if (node.blockX() == 0 && node.blockZ() == 5 && node.blockY() <= 41) fail("Node is inside a block");
+            });
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testFlowField(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        var first = new LivingEntity(EntityType.ZOMBIE);
+        var second = new LivingEntity(EntityType.ZOMBIE);
+        first.setInstance(i, new Pos(0, 40, 0));
+        second.setInstance(i, new Pos(4, 40, 0));
+
+        FlowField field = new FlowField(i, new Pos(0, 40, 10), 20, 2, first.getBoundingBox(), new GroundNodeGenerator());
+        Navigator firstNav = new Navigator(first);
+        Navigator secondNav = new Navigator(second);
+        assertTrue(firstNav.setPathTo(field, null));
+        assertTrue(secondNav.setPathTo(field, null));
+        validateNodes(firstNav.getNodes(), i);
+        validateNodes(secondNav.getNodes(), i);
+        assertEquals(10, field.distance(new Pos(0, 40, 0)), 1);
+
+        // A wall between the entities and the target makes the path longer
+        for (int x = -3; x <= 3; x++) {
+            i.setBlock(x, 40, 5, Block.STONE);
+            i.setBlock(x, 41, 5, Block.STONE);
+        }
+        i.tick(System.currentTimeMillis());
+        field.refresh();
+        assertTrue(field.distance(new Pos(0, 40, 0)) > 11);
+        assertTrue(firstNav.setPathTo(field, null));
+        firstNav.getNodes().forEach(node -> {
+            if (node.blockZ() == 5 && node.blockY() <= 41 && Math.abs(node.blockX()) <= 3) fail("Node is inside a block");
+        });
+    }
 }
@@ -200,4 +200,19 @@ public class PlayerMovementIntegrationTest {
             assertEquals(Vec.ZERO, packet.delta());
         });
     }
+
+    @Test
+    public void chunkOutOfViewDropped(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0.5, 40, 0.5));
+        final int outOfView = ServerFlag.CHUNK_VIEW_DISTANCE + 5;
+        final Chunk chunk = instance.loadChunk(outOfView, 0).join();
+
+        final long dropped = player.getDroppedChunkCount();
+        final int queueSize = player.getChunkQueueSize();
+        player.sendChunk(chunk);
+        assertEquals(dropped + 1, player.getDroppedChunkCount());
+        assertEquals(queueSize, player.getChunkQueueSize());
+    }
 }
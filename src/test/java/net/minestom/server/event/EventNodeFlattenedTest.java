@@ -0,0 +1,147 @@
+package net.minestom.server.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the flattened dispatch with the tree dispatch.
+ */
+public class EventNodeFlattenedTest {
+    private static final EventFilter<ValueEvent, ?> VALUE_FILTER = EventFilter.from(ValueEvent.class, null, null);
+
+    record ValueEvent(int value) implements Event {
+    }
+
+    @Test
+    public void nestedFilters() {
+        List<String> calls = new ArrayList<>();
+        var root = EventNode.all("root");
+        root.addListener(ValueEvent.class, event -> calls.add("root"));
+        var a = valueNode("a", value -> value >= 1);
+        a.addListener(ValueEvent.class, event -> calls.add("a"));
+        var a1 = valueNode("a1", value -> value >= 2);
+        a1.addListener(ValueEvent.class, event -> calls.add("a1"));
+        var a1x = valueNode("a1x", value -> value >= 3);
+        a1x.addListener(ValueEvent.class, event -> calls.add("a1x"));
+        var a2 = EventNode.all("a2");
+        a2.addListener(ValueEvent.class, event -> calls.add("a2"));
+        var b = valueNode("b", value -> value < 2);
+        b.addListener(ValueEvent.class, event -> calls.add("b"));
+        a1.addChild(a1x);
+        a.addChild(a1);
+        a.addChild(a2);
+        root.addChild(a);
+        root.addChild(b);
+
+        // Failing filters jump past their whole subtree
+        assertEquals(List.of("root", "b"), dispatch(root, new ValueEvent(0), true, calls));
+        assertEquals(List.of("root", "a", "a2", "b"), dispatch(root, new ValueEvent(1), true, calls));
+        assertEquals(List.of("root", "a", "a1", "a2"), dispatch(root, new ValueEvent(2), true, calls));
+        assertEquals(List.of("root", "a", "a1", "a1x", "a2"), dispatch(root, new ValueEvent(3), true, calls));
+        for (int value = 0; value < 4; value++) {
+            final ValueEvent event = new ValueEvent(value);
+            assertEquals(dispatch(root, event, false, calls), dispatch(root, event, true, calls));
+        }
+    }
+
+    @Test
+    public void priorities() {
+        List<String> calls = new ArrayList<>();
+        var root = EventNode.all("root");
+        for (int priority : new int[]{3, 1, 2}) {
+            var child = valueNode("child" + priority, value -> true).setPriority(priority);
+            child.addListener(ValueEvent.class, event -> calls.add("child" + priority));
+            root.addChild(child);
+        }
+
+        final ValueEvent event = new ValueEvent(0);
+        assertEquals(List.of("child1", "child2", "child3"), dispatch(root, event, true, calls));
+        assertEquals(dispatch(root, event, false, calls), dispatch(root, event, true, calls));
+    }
+
+    @Test
+    public void emptyNodesSkipped() {
+        List<String> calls = new ArrayList<>();
+        AtomicInteger predicateCalls = new AtomicInteger();
+        var root = EventNode.all("root");
+        var empty = valueNode("empty", value -> predicateCalls.incrementAndGet() > 0);
+        var emptyChild = valueNode("empty-child", value -> predicateCalls.incrementAndGet() > 0);
+        empty.addChild(emptyChild);
+        root.addChild(empty);
+        mode(root, true);
+        assertFalse(root.hasListener(ValueEvent.class));
+        mode(root, false);
+        assertFalse(root.hasListener(ValueEvent.class));
+
+        root.addListener(ValueEvent.class, event -> calls.add("root"));
+        final ValueEvent event = new ValueEvent(0);
+        assertEquals(List.of("root"), dispatch(root, event, true, calls));
+        assertEquals(List.of("root"), dispatch(root, event, false, calls));
+        // Filters of nodes without listeners are never evaluated
+        assertEquals(0, predicateCalls.get());
+    }
+
+    @Test
+    public void rebuildOnChanges() {
+        List<String> calls = new ArrayList<>();
+        var root = EventNode.all("root");
+        mode(root, true);
+        final ValueEvent event = new ValueEvent(1);
+
+        var child = valueNode("child", value -> value > 0);
+        var grandchild = EventNode.all("grandchild");
+        child.addChild(grandchild);
+        root.addChild(child);
+        assertEquals(List.of(), call(root, event, calls));
+
+        EventListener<ValueEvent> listener = EventListener.of(ValueEvent.class, e -> calls.add("grandchild"));
+        grandchild.addListener(listener);
+        assertEquals(List.of("grandchild"), call(root, event, calls));
+
+        var other = EventNode.all("other");
+        other.addListener(ValueEvent.class, e -> calls.add("other"));
+        root.addChild(other);
+        assertEquals(List.of("grandchild", "other"), call(root, event, calls));
+
+        grandchild.removeListener(listener);
+        assertEquals(List.of("other"), call(root, event, calls));
+
+        grandchild.addListener(listener);
+        root.removeChild(child);
+        assertEquals(List.of("other"), call(root, event, calls));
+
+        root.addChild(child);
+        root.removeChild(other);
+        assertEquals(List.of("grandchild"), call(root, event, calls));
+    }
+
+    private static EventNode<ValueEvent> valueNode(String name, IntPredicate predicate) {
+        return EventNode.event(name, VALUE_FILTER, event -> predicate.test(event.value()));
+    }
+
+    /**
+     * Calls the event with a rebuilt consumer of the given mode.
+     */
+    private static List<String> dispatch(EventNode<Event> root, ValueEvent event, boolean flattened, List<String> calls) {
+        mode(root, flattened);
+        return call(root, event, calls);
+    }
+
+    private static void mode(EventNode<Event> root, boolean flattened) {
+        var handle = (EventNodeImpl<?>.Handle<?>) root.getHandle(ValueEvent.class);
+        handle.flattened = flattened;
+        handle.invalidate();
+    }
+
+    private static List<String> call(EventNode<Event> root, ValueEvent event, List<String> calls) {
+        calls.clear();
+        root.call(event);
+        return List.copyOf(calls);
+    }
+}
@@ -0,0 +1,124 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GridEntityTrackerTest {
+    private static final EntityTracker.Update<Entity> UPDATER = new EntityTracker.Update<>() {
+        @Override
+        public void add(@NotNull Entity entity) {
+            // Empty
+        }
+
+        @Override
+        public void remove(@NotNull Entity entity) {
+            // Empty
+        }
+    };
+
+    @Test
+    public void register() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newGridTracker();
+        var chunkEntities = tracker.chunkEntities(Vec.ZERO, EntityTracker.Target.ENTITIES);
+        assertTrue(chunkEntities.isEmpty());
+
+        tracker.register(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, UPDATER);
+        assertEquals(1, chunkEntities.size());
+        assertSame(ent1, tracker.getEntityById(ent1.getEntityId()));
+        assertSame(ent1, tracker.getEntityByUuid(ent1.getUuid()));
+
+        tracker.unregister(ent1, EntityTracker.Target.ENTITIES, UPDATER);
+        assertEquals(0, chunkEntities.size());
+        assertNull(tracker.getEntityById(ent1.getEntityId()));
+    }
+
+    @Test
+    public void move() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newGridTracker();
+        tracker.register(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, UPDATER);
+        tracker.register(ent2, new Vec(1, 0, 0), EntityTracker.Target.ENTITIES, UPDATER);
+
+        tracker.move(ent1, new Vec(32, 0, 32), EntityTracker.Target.ENTITIES, UPDATER);
+        assertEquals(Set.of(ent2), Set.copyOf(tracker.chunkEntities(Vec.ZERO, EntityTracker.Target.ENTITIES)));
+        assertEquals(Set.of(ent1), Set.copyOf(tracker.chunkEntities(new Vec(32, 0, 32), EntityTracker.Target.ENTITIES)));
+
+        // Position updates within the same cell must be visible to range queries
+        tracker.move(ent2, new Vec(10, 0, 10), EntityTracker.Target.ENTITIES, UPDATER);
+        tracker.nearbyEntities(Vec.ZERO, 2, EntityTracker.Target.ENTITIES, entity -> fail("No entity should be nearby"));
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(new Vec(10, 0, 10), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent2), entities);
+    }
+
+    @Test
+    public void moveNotFirstInCell() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newGridTracker();
+        tracker.register(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, UPDATER);
+        tracker.register(ent2, new Vec(1, 0, 0), EntityTracker.Target.ENTITIES, UPDATER);
+
+        // ent2 moves from the second slot of its cell to the first slot of an empty cell
+        tracker.move(ent2, new Vec(33, 0, 33), EntityTracker.Target.ENTITIES, UPDATER);
+        assertEquals(List.of(ent1), List.copyOf(tracker.chunkEntities(Vec.ZERO, EntityTracker.Target.ENTITIES)));
+        assertEquals(List.of(ent2), List.copyOf(tracker.chunkEntities(new Vec(33, 0, 33), EntityTracker.Target.ENTITIES)));
+
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(new Vec(1, 0, 0), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1), entities);
+    }
+
+    @Test
+    public void nearby() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newGridTracker();
+        tracker.register(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, UPDATER);
+        tracker.register(ent2, new Vec(5, 0, 0), EntityTracker.Target.ENTITIES, UPDATER);
+        tracker.register(ent3, new Vec(50, 0, 0), EntityTracker.Target.ENTITIES, UPDATER);
+
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(Vec.ZERO, 4.99, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1), entities);
+        entities.clear();
+
+        tracker.nearbyEntities(Vec.ZERO, 5, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2), entities);
+        entities.clear();
+
+        tracker.nearbyEntities(Vec.ZERO, 50, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2, ent3), entities);
+        entities.clear();
+
+        // Chunk border
+        tracker.move(ent1, new Vec(16, 0, 0), EntityTracker.Target.ENTITIES, UPDATER);
+        tracker.nearbyEntities(new Vec(15, 0, 0), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1), entities);
+    }
+
+    @Test
+    public void collectionView() {
+        EntityTracker tracker = EntityTracker.newGridTracker();
+        var entities = tracker.entities();
+        var chunkEntities = tracker.chunkEntities(Vec.ZERO, EntityTracker.Target.ENTITIES);
+        tracker.register(new Entity(EntityType.ZOMBIE), Vec.ZERO, EntityTracker.Target.ENTITIES, UPDATER);
+        assertEquals(1, entities.size());
+        assertEquals(1, chunkEntities.size());
+
+        assertThrows(Exception.class, () -> entities.add(new Entity(EntityType.ZOMBIE)));
+        assertThrows(Exception.class, () -> chunkEntities.add(new Entity(EntityType.ZOMBIE)));
+    }
+}
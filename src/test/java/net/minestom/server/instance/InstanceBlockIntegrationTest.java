@@ -1,19 +1,34 @@
 package net.minestom.server.instance;
 
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.block.SuspiciousGravelBlockHandler;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.utils.NamespaceID;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @EnvTest
@@ -40,6 +55,25 @@ public class InstanceBlockIntegrationTest {
         assertEquals(Block.AIR, instance.getBlock(16, 50, 0));
     }
 
+    @Test
+    public void optimisticStateRead(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var chunk = (DynamicChunk) instance.getChunk(0, 0);
+
+        instance.setBlock(0, 50, 0, Block.GRASS_BLOCK);
+        assertEquals(0, chunk.getBlockChangeVersion() % 2, "Version must be even outside of writes");
+        assertEquals(Block.GRASS_BLOCK.stateId(), chunk.getBlockStateIdOptimistic(0, 50, 0));
+        assertEquals(Block.AIR.stateId(), chunk.getBlockStateIdOptimistic(0, 1000, 0));
+
+        synchronized (chunk) {
+            chunk.beginBlockChange();
+            assertEquals(-1, chunk.getBlockStateIdOptimistic(0, 50, 0));
+            chunk.endBlockChange();
+        }
+        assertEquals(Block.GRASS_BLOCK.stateId(), chunk.getBlockStateIdOptimistic(0, 50, 0));
+    }
+
     @Test
     public void unloadCache(Env env) {
         var instance = env.createFlatInstance();
@@ -56,6 +90,144 @@ public class InstanceBlockIntegrationTest {
         assertEquals(Block.AIR, instance.getBlock(0, 50, 0));
     }
 
+    @Test
+    public void parallelChunks(Env env) {
+        var instance = env.createFlatInstance();
+        for (int chunkX = 0; chunkX < 4; chunkX++) instance.loadChunk(chunkX, 0).join();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            final int startX = chunkX * 16;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int x = startX; x < startX + 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        instance.setBlock(x, 50, z, Block.STONE);
+                        instance.setBlock(x, 51, z, Block.GRASS_BLOCK);
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        for (int x = 0; x < 64; x++) {
+            for (int z = 0; z < 16; z++) {
+                assertEquals(Block.STONE, instance.getBlock(x, 50, z));
+                assertEquals(Block.GRASS_BLOCK, instance.getBlock(x, 51, z));
+            }
+        }
+    }
+
+    @Test
+    public void chunkDataCache(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var chunk = instance.getChunk(0, 0);
+        assertArrayEquals(serializeSections(chunk), chunkData(chunk));
+
+        instance.setBlock(0, 50, 0, Block.GRASS_BLOCK);
+        assertArrayEquals(serializeSections(chunk), chunkData(chunk));
+
+        // Direct palette modification
+        chunk.getSectionAt(80).blockPalette().set(1, 2, 3, Block.STONE.stateId());
+        chunk.invalidate();
+        assertArrayEquals(serializeSections(chunk), chunkData(chunk));
+    }
+
+    @Test
+    public void lightingNeighbourCaches(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        var neighbour = instance.getChunk(1, 0);
+        final byte[] sectionData = neighbour.getSectionAt(50).paletteData();
+        final int version = neighbour.getBlockChangeVersion();
+
+        // Only the light of the neighbour changes
+        instance.setBlock(15, 50, 0, Block.GLOWSTONE);
+        assertSame(sectionData, neighbour.getSectionAt(50).paletteData());
+        assertEquals(version, neighbour.getBlockChangeVersion());
+    }
+
+    private static byte[] chunkData(Chunk chunk) {
+        var packet = (ChunkDataPacket) ((CachedPacket) chunk.getFullDataPacket()).packet(ConnectionState.PLAY);
+        return packet.chunkData().data();
+    }
+
+    private static byte[] serializeSections(Chunk chunk) {
+        return NetworkBuffer.makeArray(buffer -> {
+            for (Section section : chunk.getSections()) {
+                buffer.write(NetworkBuffer.SHORT, (short) section.blockPalette().count());
+                buffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
+                buffer.write(Palette.BIOME_SERIALIZER, section.biomePalette());
+            }
+        });
+    }
+
+    @Test
+    public void parallelAdjacentLightingChunks(Env env) throws Exception {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        // Lighting chunks invalidate their neighbours while holding their own lock
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int chunkX = 0; chunkX < 2; chunkX++) {
+            final int x = chunkX == 0 ? 15 : 16;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1024; i++) {
+                    instance.setBlock(x, 50, i % 16, (i / 16) % 2 == 0 ? Block.STONE : Block.GLOWSTONE);
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        for (int z = 0; z < 16; z++) {
+            assertEquals(Block.GLOWSTONE, instance.getBlock(15, 50, z));
+            assertEquals(Block.GLOWSTONE, instance.getBlock(16, 50, z));
+        }
+    }
+
+    @Test
+    public void parallelHandlersInAdjacentChunks(Env env) throws Exception {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        // Places a block on the other side of the chunk border
+        AtomicReference<Chunk> lockedChunk = new AtomicReference<>();
+        var handler = new BlockHandler() {
+            @Override
+            public void onPlace(@NotNull Placement placement) {
+                final Point position = placement.getBlockPosition();
+                final Chunk chunk = instance.getChunkAt(position);
+                if (Thread.holdsLock(chunk)) lockedChunk.set(chunk);
+                instance.setBlock(31 - position.blockX(), position.blockY() + 1, position.blockZ(), Block.STONE);
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:mirror");
+            }
+        };
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int x : new int[]{15, 16}) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1024; i++) {
+                    instance.setBlock(x, 50, i % 16, Block.STONE.withHandler(handler));
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertNull(lockedChunk.get(), "Handler called while holding the chunk lock");
+        for (int z = 0; z < 16; z++) {
+            assertEquals(Block.STONE, instance.getBlock(15, 51, z));
+            assertEquals(Block.STONE, instance.getBlock(16, 51, z));
+        }
+    }
+
     @Test
     public void blockNbt(Env env) {
         var instance = env.createFlatInstance();
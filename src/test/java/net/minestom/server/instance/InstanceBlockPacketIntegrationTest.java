@@ -8,6 +8,7 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.testing.Env;
@@ -15,9 +16,11 @@ import net.minestom.testing.EnvTest;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @EnvTest
@@ -95,4 +98,36 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(block, instance.getBlock(blockPoint));
     }
+
+    @Test
+    public void coalescedBlockChanges(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.enableBlockChangeCoalescing(true);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0));
+
+        var immediateTracker = connection.trackIncoming();
+        instance.setBlock(1, 41, 2, Block.STONE);
+        instance.setBlock(3, 42, 4, Block.DIRT);
+        instance.setBlock(3, 42, 4, Block.GRASS_BLOCK); // Only the last change is sent
+        instance.setBlock(5, 60, 6, Block.STONE); // Other section
+        immediateTracker.assertEmpty();
+
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        env.tick();
+        multiTracker.assertSingle(packet -> {
+            assertEquals(new MultiBlockChangePacket(0, 2, 0, new long[0]).chunkSectionPosition(), packet.chunkSectionPosition());
+            long[] blocks = packet.blocks().clone();
+            Arrays.sort(blocks);
+            assertArrayEquals(new long[]{
+                    ((long) Block.STONE.stateId() << 12) | (1 << 8) | (2 << 4) | 9,
+                    ((long) Block.GRASS_BLOCK.stateId() << 12) | (3 << 8) | (4 << 4) | 10
+            }, blocks);
+        });
+        singleTracker.assertSingle(packet -> {
+            assertEquals(new Vec(5, 60, 6), packet.blockPosition());
+            assertEquals(Block.STONE.stateId(), packet.blockStateId());
+        });
+    }
 }
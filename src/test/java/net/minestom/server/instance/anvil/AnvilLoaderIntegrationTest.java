@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -77,6 +78,83 @@ public class AnvilLoaderIntegrationTest {
         assertNull(exception.get());
     }
 
+    @Test
+    public void writeBehindSave(Env env) throws Exception {
+        var worldFolder = Files.createTempDirectory("minestom-test-world-write-behind");
+        AnvilLoader chunkLoader = new AnvilLoader(worldFolder, ChunkCompression.ZLIB, 2);
+        Instance instance = env.createFlatInstance(chunkLoader);
+
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 4; chunkZ++) {
+                instance.loadChunk(chunkX, chunkZ).join();
+            }
+        }
+        instance.setBlock(0, 50, 0, Block.STONE);
+        instance.saveChunksToStorage().join();
+        // Coalesced with the previous save if not yet encoded
+        instance.setBlock(0, 50, 0, Block.DIAMOND_BLOCK);
+        instance.saveChunkToStorage(instance.getChunk(0, 0)).join();
+        chunkLoader.flush().join();
+
+        Instance loadedInstance = env.createFlatInstance(new AnvilLoader(worldFolder));
+        loadedInstance.loadChunk(0, 0).join();
+        assertEquals(Block.DIAMOND_BLOCK, loadedInstance.getBlock(0, 50, 0));
+    }
+
+    @Test
+    public void closeWritesPendingSaves(Env env) throws Exception {
+        var worldFolder = Files.createTempDirectory("minestom-test-world-close");
+        AnvilLoader generatingLoader = new AnvilLoader(worldFolder, ChunkCompression.ZLIB, 2);
+        Instance generatingInstance = env.createFlatInstance(generatingLoader);
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 4; chunkZ++) {
+                generatingInstance.loadChunk(chunkX, chunkZ).join();
+            }
+        }
+        generatingInstance.saveChunksToStorage().join();
+        generatingLoader.close();
+
+        // Chunks loaded from the region files, unloading them closes the regions without pending saves
+        AnvilLoader chunkLoader = new AnvilLoader(worldFolder, ChunkCompression.ZLIB, 2);
+        Instance instance = env.createFlatInstance(chunkLoader);
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 4; chunkZ++) {
+                instance.loadChunk(chunkX, chunkZ).join();
+                instance.setBlock(chunkX * 16, 50, chunkZ * 16, Block.DIAMOND_BLOCK);
+            }
+        }
+        // Only waits for the chunks to be queued
+        instance.saveChunksToStorage().join();
+        for (Chunk chunk : List.copyOf(instance.getChunks())) instance.unloadChunk(chunk);
+        chunkLoader.close();
+
+        Instance loadedInstance = env.createFlatInstance(new AnvilLoader(worldFolder));
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 4; chunkZ++) {
+                loadedInstance.loadChunk(chunkX, chunkZ).join();
+                assertEquals(Block.DIAMOND_BLOCK, loadedInstance.getBlock(chunkX * 16, 50, chunkZ * 16));
+            }
+        }
+    }
+
+    @Test
+    public void reloadPendingSave(Env env) throws Exception {
+        var worldFolder = Files.createTempDirectory("minestom-test-world-reload");
+        AnvilLoader chunkLoader = new AnvilLoader(worldFolder, ChunkCompression.ZLIB, 1);
+        Instance instance = env.createFlatInstance(chunkLoader);
+        for (int i = 0; i < 8; i++) {
+            instance.loadChunk(0, 0).join();
+            instance.setBlock(0, 50, 0, i % 2 == 0 ? Block.STONE : Block.DIAMOND_BLOCK);
+            // Only queued, loading the chunk again must wait for it
+            instance.saveChunkToStorage(instance.getChunk(0, 0)).join();
+            instance.unloadChunk(0, 0);
+            instance.loadChunk(0, 0).join();
+            assertEquals(i % 2 == 0 ? Block.STONE : Block.DIAMOND_BLOCK, instance.getBlock(0, 50, 0));
+            instance.unloadChunk(0, 0);
+        }
+        chunkLoader.close();
+    }
+
     @Test
     public void loadHouse(Env env) throws IOException {
         // load a world that contains only a basic house and make sure it is loaded properly
@@ -0,0 +1,116 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionFileTest {
+
+    @Test
+    public void writeRead(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path)) {
+            assertFalse(regionFile.hasChunkData(1, 2));
+            assertNull(regionFile.readChunkData(1, 2));
+
+            regionFile.writeChunkData(1, 2, CompoundBinaryTag.builder().putInt("value", 5).build());
+            assertTrue(regionFile.hasChunkData(1, 2));
+            assertEquals(5, regionFile.readChunkData(1, 2).getInt("value"));
+
+            // Overwrite
+            regionFile.writeChunkData(1, 2, CompoundBinaryTag.builder().putInt("value", 6).build());
+            assertEquals(6, regionFile.readChunkData(1, 2).getInt("value"));
+        }
+        // Reopen
+        try (RegionFile regionFile = new RegionFile(path)) {
+            assertEquals(6, regionFile.readChunkData(1, 2).getInt("value"));
+        }
+    }
+
+    @Test
+    public void parallelWriteRead(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int x = 0; x < 32; x++) {
+                for (int z = 0; z < 32; z++) {
+                    final int chunkX = x, chunkZ = z;
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            for (int i = 0; i < 4; i++) {
+                                regionFile.writeChunkData(chunkX, chunkZ, chunkTag(chunkX, chunkZ, i));
+                                var tag = regionFile.readChunkData(chunkX, chunkZ);
+                                assertNotNull(tag);
+                                assertEquals(i, tag.getInt("version"));
+                            }
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        try (RegionFile regionFile = new RegionFile(path)) {
+            for (int x = 0; x < 32; x++) {
+                for (int z = 0; z < 32; z++) {
+                    var tag = regionFile.readChunkData(x, z);
+                    assertNotNull(tag);
+                    assertEquals(x, tag.getInt("x"));
+                    assertEquals(z, tag.getInt("z"));
+                    assertEquals(3, tag.getInt("version"));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ChunkCompression.class)
+    public void compression(ChunkCompression compression, @TempDir Path dir) throws IOException {
+        final Path path = dir.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path, compression)) {
+            regionFile.writeChunkData(3, 4, chunkTag(3, 4, 1));
+        }
+        // Reading does not depend on the write compression
+        try (RegionFile regionFile = new RegionFile(path)) {
+            assertEquals(chunkTag(3, 4, 1), regionFile.readChunkData(3, 4));
+        }
+    }
+
+    @Test
+    public void recompress(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path)) {
+            for (int x = 0; x < 4; x++) {
+                regionFile.writeChunkData(x, 0, chunkTag(x, 0, 0));
+            }
+        }
+        RegionRecompressor.recompressFolder(dir, ChunkCompression.LZ4);
+        try (RegionFile regionFile = new RegionFile(path)) {
+            for (int x = 0; x < 4; x++) {
+                assertEquals(chunkTag(x, 0, 0), regionFile.readChunkData(x, 0));
+            }
+            assertFalse(regionFile.hasChunkData(4, 0));
+        }
+    }
+
+    private static CompoundBinaryTag chunkTag(int x, int z, int version) {
+        return CompoundBinaryTag.builder()
+                .putInt("x", x)
+                .putInt("z", z)
+                .putInt("version", version)
+                .putByteArray("data", new byte[(x * 32 + z) * 16])
+                .build();
+    }
+}
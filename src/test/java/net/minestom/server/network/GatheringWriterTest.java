@@ -0,0 +1,123 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.ObjectPool;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GatheringWriterTest {
+
+    @Test
+    public void writeInOrder() throws Exception {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(64), NetworkBuffer::clear);
+        var owned = NetworkBuffer.staticBuffer(64);
+        owned.write(RAW_BYTES, new byte[]{1, 2, 3, 4});
+        var shared = sharedBuffer(pool, new byte[]{10, 11, 12, 13, 14});
+
+        GatheringWriter writer = new GatheringWriter();
+        writer.add(owned, 0, 2);
+        writer.add(shared.retain(), 1, 3);
+        writer.add(owned, 2, 2);
+        // Empty owned segments are skipped
+        writer.add(owned, 4, 0);
+
+        var channel = new LimitedChannel(Integer.MAX_VALUE);
+        assertTrue(writer.write(channel));
+        assertArrayEquals(new byte[]{1, 2, 11, 12, 13, 3, 4}, channel.bytes());
+        assertEquals(2, shared.references());
+        writer.clear();
+        assertTrue(writer.isEmpty());
+        assertEquals(1, shared.references());
+    }
+
+    @Test
+    public void partialWrite() throws Exception {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(64), NetworkBuffer::clear);
+        var owned = NetworkBuffer.staticBuffer(64);
+        owned.write(RAW_BYTES, new byte[]{1, 2, 3, 4});
+        var shared = sharedBuffer(pool, new byte[]{10, 11, 12, 13, 14, 15, 16, 17});
+
+        GatheringWriter writer = new GatheringWriter();
+        writer.add(owned, 0, 2);
+        writer.add(shared, 0, 8);
+        writer.add(owned, 2, 2);
+
+        // Channel full in the middle of the shared segment
+        var channel = new LimitedChannel(5);
+        assertFalse(writer.write(channel));
+        assertArrayEquals(new byte[]{1, 2, 10, 11, 12}, channel.bytes());
+        // Still full
+        assertFalse(writer.write(channel));
+        assertArrayEquals(new byte[]{1, 2, 10, 11, 12}, channel.bytes());
+        // Resumes where the previous write stopped
+        channel.budget = 4;
+        assertFalse(writer.write(channel));
+        assertArrayEquals(new byte[]{1, 2, 10, 11, 12, 13, 14, 15, 16}, channel.bytes());
+        channel.budget = Integer.MAX_VALUE;
+        assertTrue(writer.write(channel));
+        assertArrayEquals(new byte[]{1, 2, 10, 11, 12, 13, 14, 15, 16, 17, 3, 4}, channel.bytes());
+
+        // The writer owned the last reference
+        assertEquals(0, pool.count());
+        writer.clear();
+        assertEquals(1, pool.count());
+    }
+
+    private static SharedBuffer sharedBuffer(ObjectPool<NetworkBuffer> pool, byte[] bytes) {
+        var buffer = pool.get();
+        buffer.write(RAW_BYTES, bytes);
+        return SharedBuffer.share(pool, buffer);
+    }
+
+    /**
+     * Channel accepting a limited amount of bytes, like a socket with a full send buffer.
+     */
+    private static final class LimitedChannel implements GatheringByteChannel {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int budget;
+
+        LimitedChannel(int budget) {
+            this.budget = budget;
+        }
+
+        byte[] bytes() {
+            return output.toByteArray();
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length && budget > 0; i++) {
+                written += write(srcs[i]);
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int count = Math.min(budget, src.remaining());
+            for (int i = 0; i < count; i++) output.write(src.get());
+            this.budget -= count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
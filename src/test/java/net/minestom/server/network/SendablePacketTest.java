@@ -13,6 +13,7 @@ import net.minestom.server.network.packet.server.play.SystemChatPacket;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.DataFormatException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,6 +50,32 @@ public class SendablePacketTest {
         assertSame(packet, cached.packet(ConnectionState.PLAY));
     }
 
+    @Test
+    public void cachedThresholds() {
+        var packet = new SystemChatPacket(Component.text("Hello World!".repeat(100)), false);
+        AtomicInteger calls = new AtomicInteger();
+        var cached = new CachedPacket(() -> {
+            calls.incrementAndGet();
+            return packet;
+        });
+
+        var uncompressed = cached.body(ConnectionState.PLAY, 0);
+        var compressed = cached.body(ConnectionState.PLAY, 256);
+        assertTrue(NetworkBuffer.equals(PacketWriting.allocateTrimmedPacket(ConnectionState.PLAY, packet, 0), uncompressed));
+        assertTrue(NetworkBuffer.equals(PacketWriting.allocateTrimmedPacket(ConnectionState.PLAY, packet, 256), compressed));
+        assertTrue(compressed.capacity() < uncompressed.capacity());
+        assertEquals(1, calls.get(), "The packet should be shared by both frames");
+
+        // May fail in the very unlikely case where soft references are cleared
+        assertSame(uncompressed, cached.body(ConnectionState.PLAY, 0));
+        assertSame(compressed, cached.body(ConnectionState.PLAY, 256));
+
+        cached.invalidate();
+        assertFalse(cached.isValid());
+        assertNotSame(compressed, cached.body(ConnectionState.PLAY, 256));
+        assertEquals(2, calls.get());
+    }
+
     @Test
     public void trimmed() throws DataFormatException {
         var packet = new ClientAnimationPacket(PlayerHand.MAIN);
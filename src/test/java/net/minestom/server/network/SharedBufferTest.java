@@ -0,0 +1,48 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.ObjectPool;
+import org.junit.jupiter.api.Test;
+
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedBufferTest {
+
+    @Test
+    public void releaseAfterLastViewer() {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(64), NetworkBuffer::clear);
+        var buffer = pool.get();
+        buffer.write(INT, 5);
+
+        var shared = SharedBuffer.share(pool, buffer);
+        assertEquals(4, shared.size());
+        // Two viewers, then the storage releases its own reference
+        shared.retain();
+        shared.retain();
+        shared.release();
+        assertEquals(2, shared.references());
+        assertEquals(0, pool.count());
+
+        shared.release();
+        assertEquals(0, pool.count());
+        shared.release();
+        assertEquals(1, pool.count());
+        assertSame(buffer, pool.get());
+        // Cleared and writable again once back in the pool
+        assertEquals(0, buffer.writeIndex());
+        buffer.write(INT, 6);
+    }
+
+    @Test
+    public void readOnlyWhileShared() {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(64), NetworkBuffer::clear);
+        var buffer = pool.get();
+        buffer.write(INT, 5);
+
+        var shared = SharedBuffer.share(pool, buffer);
+        assertThrows(UnsupportedOperationException.class, () -> buffer.write(INT, 6));
+        shared.release();
+        assertThrows(IllegalStateException.class, shared::release);
+        assertThrows(IllegalStateException.class, shared::retain);
+    }
+}
@@ -6,11 +6,16 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
 
 import static net.minestom.server.network.NetworkBuffer.INT;
 import static net.minestom.server.network.NetworkBuffer.STRING;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SocketWriteTest {
 
@@ -26,6 +31,12 @@ public class SocketWriteTest {
                 CompressiblePacket::new);
     }
 
+    record BytesPacket(byte[] value) implements ServerPacket.Play {
+        public static final NetworkBuffer.Type<BytesPacket> SERIALIZER = NetworkBufferTemplate.template(
+                NetworkBuffer.BYTE_ARRAY, BytesPacket::value,
+                BytesPacket::new);
+    }
+
     @Test
     public void writeSingleUncompressed() {
         var packet = new IntPacket(5);
@@ -92,6 +103,53 @@ public class SocketWriteTest {
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.writeIndex(), "Invalid buffer position");
     }
 
+    @Test
+    public void writeCompressedDeflater() {
+        var deflater = new Deflater();
+        for (var packet : List.of(new CompressiblePacket("Hello world!".repeat(200)), new CompressiblePacket("Hello"))) {
+            var buffer = PacketVanilla.PACKET_POOL.get();
+            var deflaterBuffer = PacketVanilla.PACKET_POOL.get();
+            PacketWriting.writeFramedPacket(buffer, CompressiblePacket.SERIALIZER, 1, packet, 256);
+            PacketWriting.writeFramedPacket(deflaterBuffer, CompressiblePacket.SERIALIZER, 1, packet, 256, deflater);
+            // Same output as the pooled deflater, deflater reset after each packet
+            assertArrayEquals(buffer.read(NetworkBuffer.RAW_BYTES), deflaterBuffer.read(NetworkBuffer.RAW_BYTES));
+        }
+    }
+
+    @Test
+    public void writeCompressedDeflaterOverflow() {
+        var packet = new CompressiblePacket(Stream.generate(() -> UUID.randomUUID().toString()).limit(100).collect(Collectors.joining()));
+        var buffer = NetworkBuffer.staticBuffer(64);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> PacketWriting.writeFramedPacket(buffer, CompressiblePacket.SERIALIZER, 1, packet, 16, new Deflater()));
+    }
+
+    @Test
+    public void writeCompressedIncompressible() throws Exception {
+        var bytes = new byte[4096];
+        new Random(42).nextBytes(bytes);
+        var packet = new BytesPacket(bytes);
+        var deflater = new Deflater();
+        // Resizable output, like the viewable packets buffer
+        var resizable = NetworkBuffer.resizableBuffer(16);
+        PacketWriting.writeFramedPacket(resizable, BytesPacket.SERIALIZER, 1, packet, 256);
+        var resizableDeflater = NetworkBuffer.resizableBuffer(16);
+        PacketWriting.writeFramedPacket(resizableDeflater, BytesPacket.SERIALIZER, 1, packet, 256, deflater);
+        // Static output sized for the worst case
+        final long packetSize = 1 + BytesPacket.SERIALIZER.sizeOf(packet);
+        var bounded = NetworkBuffer.staticBuffer(NetworkBuffer.compressBound(packetSize) + 6);
+        PacketWriting.writeFramedPacket(bounded, BytesPacket.SERIALIZER, 1, packet, 256, deflater);
+
+        for (var buffer : List.of(resizable, resizableDeflater, bounded)) {
+            assertEquals((int) buffer.writeIndex() - 3, buffer.read(NetworkBuffer.VAR_INT_3));
+            assertEquals((int) packetSize, buffer.read(NetworkBuffer.VAR_INT_3));
+            var decompressed = NetworkBuffer.staticBuffer(packetSize);
+            buffer.decompress(buffer.readIndex(), buffer.readableBytes(), decompressed);
+            assertEquals(1, decompressed.read(NetworkBuffer.VAR_INT));
+            assertArrayEquals(bytes, decompressed.read(BytesPacket.SERIALIZER).value());
+        }
+    }
+
     private static int getVarIntSize(int input) {
         return (input & 0xFFFFFF80) == 0
                 ? 1 : (input & 0xFFFFC000) == 0
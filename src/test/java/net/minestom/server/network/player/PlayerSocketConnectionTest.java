@@ -0,0 +1,116 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.SharedBuffer;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.BufferedPacket;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+import static net.minestom.server.network.NetworkBuffer.RAW_BYTES;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerSocketConnectionTest {
+    private static final byte[] SHARED_BYTES = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    public void sharedBufferGathered(Env env) throws IOException {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(64), NetworkBuffer::clear);
+        var shared = sharedBuffer(pool);
+        try (var server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             var client1 = SocketChannel.open(server.getLocalAddress());
+             var channel1 = server.accept();
+             var client2 = SocketChannel.open(server.getLocalAddress());
+             var channel2 = server.accept()) {
+            var connection1 = new PlayerSocketConnection(channel1, client1.getLocalAddress());
+            var connection2 = new PlayerSocketConnection(channel2, client2.getLocalAddress());
+            connection1.setConnectionState(ConnectionState.PLAY);
+            connection2.setConnectionState(ConnectionState.PLAY);
+
+            // Shared segment written between packets of the connection write buffer
+            var before = new KeepAlivePacket(1);
+            var after = new KeepAlivePacket(2);
+            connection1.sendPacket(before);
+            connection1.sendPacket(new BufferedPacket(shared.retain(), 2, 4));
+            connection1.sendPacket(after);
+            connection2.sendPacket(new BufferedPacket(shared.retain(), 0, SHARED_BYTES.length));
+            shared.release();
+
+            connection1.flushSync();
+            assertEquals(0, pool.count());
+            connection2.flushSync();
+            // Released by the last viewer
+            assertEquals(1, pool.count());
+
+            final byte[] expected = concat(framed(before), Arrays.copyOfRange(SHARED_BYTES, 2, 6), framed(after));
+            assertArrayEquals(expected, read(client1, expected.length));
+            assertArrayEquals(SHARED_BYTES, read(client2, SHARED_BYTES.length));
+        }
+    }
+
+    @Test
+    public void sharedBufferEncrypted(Env env) throws IOException {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(64), NetworkBuffer::clear);
+        var shared = sharedBuffer(pool);
+        var key = new SecretKeySpec(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15}, "AES");
+        try (var server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             var client = SocketChannel.open(server.getLocalAddress());
+             var channel = server.accept()) {
+            var connection = new PlayerSocketConnection(channel, client.getLocalAddress());
+            connection.setEncryptionKey(key);
+
+            connection.sendPacket(new BufferedPacket(shared.retain(), 1, 6));
+            connection.flushSync();
+            // Copied into the write buffer, released before the socket write
+            assertEquals(1, shared.references());
+            shared.release();
+            assertEquals(1, pool.count());
+
+            final byte[] decrypted = MojangCrypt.getCipher(Cipher.DECRYPT_MODE, key).update(read(client, 6));
+            assertArrayEquals(Arrays.copyOfRange(SHARED_BYTES, 1, 7), decrypted);
+        }
+    }
+
+    private static SharedBuffer sharedBuffer(ObjectPool<NetworkBuffer> pool) {
+        var buffer = pool.get();
+        buffer.write(RAW_BYTES, SHARED_BYTES);
+        return SharedBuffer.share(pool, buffer);
+    }
+
+    private static byte[] framed(KeepAlivePacket packet) {
+        var buffer = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 0);
+        return buffer.read(RAW_BYTES);
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        var buffer = ByteBuffer.allocate(Arrays.stream(arrays).mapToInt(array -> array.length).sum());
+        for (byte[] array : arrays) buffer.put(array);
+        return buffer.array();
+    }
+
+    private static byte[] read(SocketChannel channel, int length) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) throw new EOFException();
+        }
+        return buffer.array();
+    }
+}
@@ -4,11 +4,13 @@ import net.minestom.server.Tickable;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -167,4 +169,84 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedThreads() {
+        // Ensure that heavy partitions are spread across threads when RefreshType.BALANCED is used
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(ThreadProvider.balanced(), 2);
+        Tickable heavy1 = (time) -> LockSupport.parkNanos(2_000_000);
+        Tickable light1 = (time) -> {
+        };
+        Tickable heavy2 = (time) -> LockSupport.parkNanos(2_000_000);
+        Tickable light2 = (time) -> {
+        };
+        // Counter dispatching puts both heavy partitions on the same thread
+        for (Tickable partition : List.of(heavy1, light1, heavy2, light2)) dispatcher.createPartition(partition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertSame(dispatcher.partition(heavy1).thread(), dispatcher.partition(heavy2).thread());
+        assertTrue(dispatcher.partition(heavy1).lastTickNanos() >= 2_000_000);
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+        }
+        assertNotSame(dispatcher.partition(heavy1).thread(), dispatcher.partition(heavy2).thread());
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void workStealing() {
+        // Ensure that idle threads tick the partitions of busy ones, exactly once per tick
+        final int threadCount = 4;
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.workStealing(partition -> 0, threadCount);
+        Map<Tickable, Thread> tickThreads = new ConcurrentHashMap<>();
+        final AtomicInteger counter = new AtomicInteger();
+        List<Tickable> partitions = IntStream.range(0, threadCount * 4)
+                .mapToObj(value -> (Tickable) new Tickable() {
+                    @Override
+                    public void tick(long time) {
+                        assertNull(tickThreads.put(this, Thread.currentThread()));
+                        counter.incrementAndGet();
+                        LockSupport.parkNanos(1_000_000);
+                    }
+                }).toList();
+        partitions.forEach(dispatcher::createPartition);
+
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(partitions.size(), counter.get());
+        assertTrue(Set.copyOf(tickThreads.values()).size() > 1, "No partition has been stolen");
+        // Stolen partitions stay on the thread which ticked them
+        for (Tickable partition : partitions) {
+            assertSame(tickThreads.get(partition), dispatcher.partition(partition).thread());
+        }
+
+        tickThreads.clear();
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(partitions.size() * 2, counter.get());
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void workStealingPartitionChanges() {
+        // Partitions added and removed between ticks, without growing the work array
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.workStealing(partition -> 0, 1);
+        final AtomicInteger counter = new AtomicInteger();
+        List<Tickable> partitions = IntStream.range(0, 8)
+                .mapToObj(value -> (Tickable) time -> counter.incrementAndGet()).toList();
+        partitions.forEach(dispatcher::createPartition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(8, counter.get());
+
+        partitions.subList(4, 8).forEach(dispatcher::deletePartition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(12, counter.get());
+
+        partitions.subList(4, 6).forEach(dispatcher::createPartition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(18, counter.get());
+
+        dispatcher.shutdown();
+    }
 }
@@ -28,6 +28,24 @@ public class TestScheduler {
         assertFalse(task.isAlive(), "Tick task should be cancelled after execution");
     }
 
+    @Test
+    public void longTickTask() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        final int[] delays = {1, 63, 64, 65, 130, 4095, 4096, 5000, 300_000};
+        AtomicInteger[] results = new AtomicInteger[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            final AtomicInteger result = results[i] = new AtomicInteger(-1);
+            scheduler.buildTask(() -> result.set(result.get() + 1)).delay(TaskSchedule.tick(delays[i])).schedule();
+        }
+        scheduler.process();
+        for (int tick = 1; tick <= delays[delays.length - 1]; tick++) {
+            scheduler.processTick();
+            for (int i = 0; i < delays.length; i++) {
+                assertEquals(tick >= delays[i] ? 0 : -1, results[i].get(), "Task delayed by " + delays[i] + " ticks at tick " + tick);
+            }
+        }
+    }
+
     @Test
     public void durationTask() throws InterruptedException {
         Scheduler scheduler = Scheduler.newScheduler();
@@ -0,0 +1,102 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PacketViewableUtilsTest {
+
+    @Test
+    public void exclusionRanges(Env env) throws IOException {
+        try (var server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             var client1 = SocketChannel.open(server.getLocalAddress());
+             var channel1 = server.accept();
+             var client2 = SocketChannel.open(server.getLocalAddress());
+             var channel2 = server.accept()) {
+            var connection1 = new PlayerSocketConnection(channel1, client1.getLocalAddress());
+            var connection2 = new PlayerSocketConnection(channel2, client2.getLocalAddress());
+            var player1 = new Player(connection1, new GameProfile(UUID.randomUUID(), "Viewer1"));
+            var player2 = new Player(connection2, new GameProfile(UUID.randomUUID(), "Viewer2"));
+            Viewable viewable = new Viewable() {
+                @Override
+                public boolean addViewer(@NotNull Player player) {
+                    return false;
+                }
+
+                @Override
+                public boolean removeViewer(@NotNull Player player) {
+                    return false;
+                }
+
+                @Override
+                public @NotNull Set<@NotNull Player> getViewers() {
+                    return Set.of(player1, player2);
+                }
+            };
+
+            var first = new KeepAlivePacket(1);
+            var second = new KeepAlivePacket(2);
+            var third = new KeepAlivePacket(3);
+            var fourth = new KeepAlivePacket(4);
+            var storage = new PacketViewableUtils.ViewableStorage();
+            storage.append(first, player1);
+            storage.append(second, null);
+            storage.append(third, player1);
+            storage.append(fourth, player2);
+            storage.process(viewable);
+            connection1.flushSync();
+            connection2.flushSync();
+
+            // Each viewer skips the packets it caused
+            assertArrayEquals(framed(second, fourth), read(client1, framed(second, fourth).length));
+            assertArrayEquals(framed(first, second, third), read(client2, framed(first, second, third).length));
+            assertNothingLeft(client1);
+            assertNothingLeft(client2);
+        }
+    }
+
+    private static byte[] framed(ServerPacket... packets) {
+        var buffer = NetworkBuffer.resizableBuffer();
+        for (ServerPacket packet : packets) {
+            PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, MinecraftServer.getCompressionThreshold());
+        }
+        return buffer.read(NetworkBuffer.RAW_BYTES);
+    }
+
+    private static byte[] read(SocketChannel channel, int length) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) throw new EOFException();
+        }
+        return buffer.array();
+    }
+
+    private static void assertNothingLeft(SocketChannel channel) throws IOException {
+        channel.configureBlocking(false);
+        assertEquals(0, channel.read(ByteBuffer.allocate(1)));
+    }
+}